@@ -19,9 +19,14 @@
 
 package com.github.alvarm.jsa.arrays;
 
+import com.github.alvarm.jsa.search.BatchBinarySearch;
+import com.github.alvarm.jsa.search.BranchlessBinarySearch;
+import com.github.alvarm.jsa.search.IntEytzingerIndex;
 import com.github.alvarm.jsa.search.IterativeBinarySearch;
 import com.github.alvarm.jsa.search.LinearSearch;
+import com.github.alvarm.jsa.search.ParallelLinearSearch;
 import com.github.alvarm.jsa.search.RecursiveBinarySearch;
+import com.github.alvarm.jsa.search.VectorLinearSearch;
 import org.openjdk.jmh.annotations.*;
 
 import java.util.Arrays;
@@ -30,39 +35,107 @@ import java.util.random.RandomGenerator;
 import java.util.random.RandomGeneratorFactory;
 
 
-@BenchmarkMode(Mode.AverageTime)
-@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
 @State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "--add-modules", "jdk.incubator.vector"})
 public class ArraySearchBenchmark {
 
+    private static final int TARGETS = 1 << 12;
+
+    /**
+     * Number of keys, from an array that fits in L1 to one well beyond the last level cache.
+     */
+    @Param({"4096", "262144", "4194304", "67108864"})
+    private int size;
+
+    @Param({"UNIFORM", "ZIPF", "CLUSTERED"})
+    private KeyDistribution distribution;
+
+    /**
+     * Fraction of the targets that are present in the array.
+     */
+    @Param({"0.0", "0.5", "1.0"})
+    private double hitRatio;
+
     private int[] array;
-    private int target;
+    private IntEytzingerIndex eytzingerIndex;
+    private int[] targets;
+    private int[] results;
+    private int next;
 
-    @Setup(Level.Iteration)
+    @Setup(Level.Trial)
     public void setUp() {
-        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create();
-        array = rng.ints(10_000_000L).toArray();
-        target = rng.nextInt();
-        Arrays.sort(array);
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        long[] keys = distribution.keys(size, rng);
+        array = Arrays.stream(keys).mapToInt(key -> (int) key).toArray();
+        targets = Arrays.stream(distribution.targets(keys, TARGETS, hitRatio, rng))
+                .mapToInt(key -> (int) key)
+                .toArray();
+        results = new int[TARGETS];
+        eytzingerIndex = new IntEytzingerIndex(array);
+    }
+
+    private int nextTarget() {
+        next = (next + 1) & (TARGETS - 1);
+        return targets[next];
     }
 
     @Benchmark
     public int linearSearch() {
-        return LinearSearch.search(array, target);
+        return LinearSearch.search(array, nextTarget());
+    }
+
+    @Benchmark
+    public int vectorLinearSearch() {
+        return VectorLinearSearch.search(array, nextTarget());
+    }
+
+    @Benchmark
+    public int parallelLinearSearch() {
+        return ParallelLinearSearch.search(array, nextTarget());
     }
 
     @Benchmark
     public int recursiveBinarySearch() {
-        return RecursiveBinarySearch.search(array, target);
+        return RecursiveBinarySearch.search(array, nextTarget());
     }
 
     @Benchmark
     public int iterativeBinarySearch() {
-        return IterativeBinarySearch.search(array, target);
+        return IterativeBinarySearch.search(array, nextTarget());
+    }
+
+    @Benchmark
+    public int branchlessBinarySearch() {
+        return BranchlessBinarySearch.search(array, nextTarget());
+    }
+
+    @Benchmark
+    public int eytzingerIndexSearch() {
+        return eytzingerIndex.search(nextTarget());
     }
 
     @Benchmark
     public int javaSearch() {
-        return Arrays.binarySearch(array, target);
+        return Arrays.binarySearch(array, nextTarget());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TARGETS)
+    public int[] iterativeBinarySearchLoop() {
+        for (int i = 0; i < targets.length; i++) {
+            results[i] = IterativeBinarySearch.search(array, targets[i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TARGETS)
+    public int[] batchBinarySearch() {
+        BatchBinarySearch.searchAll(array, targets, results);
+        return results;
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.arrays;
+
+import com.github.alvarm.jsa.search.IntCompressedIndex;
+import com.github.alvarm.jsa.search.IterativeBinarySearch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+public class CompressedIndexBenchmark {
+
+    private static final int TARGETS = 1 << 12;
+
+    @Param({"16777216"})
+    private int size;
+
+    /**
+     * Maximum gap between two consecutive ids.
+     */
+    @Param({"4", "256"})
+    private int gap;
+
+    private int[] array;
+    private IntCompressedIndex index;
+    private int[] targets;
+    private int[] blocks;
+    private int[] block;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        array = new int[size];
+        for (int i = 1; i < size; i++) {
+            array[i] = array[i - 1] + rng.nextInt(1, gap + 1);
+        }
+        index = new IntCompressedIndex(array);
+        targets = new int[TARGETS];
+        for (int i = 0; i < TARGETS; i++) {
+            targets[i] = array[rng.nextInt(size)];
+        }
+        blocks = new int[TARGETS];
+        for (int i = 0; i < TARGETS; i++) {
+            blocks[i] = rng.nextInt(index.blocks());
+        }
+        block = new int[IntCompressedIndex.BLOCK_SIZE];
+    }
+
+    private int nextTarget() {
+        next = (next + 1) & (TARGETS - 1);
+        return targets[next];
+    }
+
+    private int nextBlock() {
+        next = (next + 1) & (TARGETS - 1);
+        return blocks[next];
+    }
+
+    @Benchmark
+    public int iterativeBinarySearch() {
+        return IterativeBinarySearch.search(array, nextTarget());
+    }
+
+    @Benchmark
+    public int compressedSearch() {
+        return index.search(nextTarget());
+    }
+
+    @Benchmark
+    public int[] decodeBlock() {
+        index.decodeBlock(nextBlock(), block, 0);
+        return block;
+    }
+}
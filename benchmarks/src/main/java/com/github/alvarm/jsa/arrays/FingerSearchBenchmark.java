@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.arrays;
+
+import com.github.alvarm.jsa.search.IterativeBinarySearch;
+import com.github.alvarm.jsa.search.LongFinger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+public class FingerSearchBenchmark {
+
+    private static final int TARGETS = 1 << 16;
+
+    @Param({"16777216"})
+    private int size;
+
+    /**
+     * Maximum distance, in positions of the array, between two consecutive targets.
+     */
+    @Param({"16", "1024"})
+    private int locality;
+
+    private long[] array;
+    private LongFinger finger;
+    private long[] targets;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        array = rng.longs(size).toArray();
+        Arrays.sort(array);
+        finger = new LongFinger(array);
+        targets = new long[TARGETS];
+        int position = size / 2;
+        for (int i = 0; i < TARGETS; i++) {
+            position = Math.max(0, Math.min(size - 1, position + rng.nextInt(-locality, locality + 1)));
+            targets[i] = array[position];
+        }
+    }
+
+    private long nextTarget() {
+        next = (next + 1) & (TARGETS - 1);
+        return targets[next];
+    }
+
+    @Benchmark
+    public int iterativeBinarySearch() {
+        return IterativeBinarySearch.search(array, nextTarget());
+    }
+
+    @Benchmark
+    public int fingerSearch() {
+        return finger.search(nextTarget());
+    }
+}
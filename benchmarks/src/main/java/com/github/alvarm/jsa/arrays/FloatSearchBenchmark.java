@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.arrays;
+
+import com.github.alvarm.jsa.search.BatchBinarySearch;
+import com.github.alvarm.jsa.search.BranchlessBinarySearch;
+import com.github.alvarm.jsa.search.IterativeBinarySearch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class FloatSearchBenchmark {
+
+    private static final int TARGETS = 1 << 12;
+
+    /**
+     * Number of keys, from an array that fits in L1 to one well beyond the last level cache.
+     */
+    @Param({"4096", "262144", "4194304", "67108864"})
+    private int size;
+
+    @Param({"UNIFORM", "ZIPF", "CLUSTERED"})
+    private KeyDistribution distribution;
+
+    /**
+     * Fraction of the targets that are present in the array.
+     */
+    @Param({"0.0", "0.5", "1.0"})
+    private double hitRatio;
+
+    private float[] array;
+    private float[] targets;
+    private int[] results;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        long[] keys = distribution.keys(size, rng);
+        array = toFloats(keys);
+        targets = toFloats(distribution.targets(keys, TARGETS, hitRatio, rng));
+        results = new int[TARGETS];
+    }
+
+    private float nextTarget() {
+        next = (next + 1) & (TARGETS - 1);
+        return targets[next];
+    }
+
+    private static float[] toFloats(long[] keys) {
+        final float[] floats = new float[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            floats[i] = keys[i];
+        }
+        return floats;
+    }
+
+    @Benchmark
+    public int iterativeBinarySearch() {
+        return IterativeBinarySearch.search(array, nextTarget());
+    }
+
+    @Benchmark
+    public int iterativeBinarySearchTotalOrder() {
+        return IterativeBinarySearch.searchTotalOrder(array, nextTarget());
+    }
+
+    @Benchmark
+    public int branchlessBinarySearch() {
+        return BranchlessBinarySearch.search(array, nextTarget());
+    }
+
+    @Benchmark
+    public int javaSearch() {
+        return Arrays.binarySearch(array, nextTarget());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TARGETS)
+    public int[] batchBinarySearch() {
+        BatchBinarySearch.searchAll(array, targets, results);
+        return results;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.arrays;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Distribution of the sorted keys of a search benchmark and of the targets searched in them.<br>
+ * Keys are non-negative longs lower than {@link #KEY_LIMIT}, so that they keep their order when they are converted
+ * to int, long, float, double or to strings with {@link #format(long)}. Floats only have 24 bits of precision, so
+ * close keys may become equal when converted to float.<br>
+ * Targets are generated once, as a stream that the benchmarks rotate through, so that neither the branch predictor
+ * nor the caches are trained by a single repeated key.
+ * @author alvarm
+ */
+public enum KeyDistribution {
+
+    /**
+     * Keys spread uniformly over the whole range, hits chosen uniformly among them.
+     */
+    UNIFORM,
+
+    /**
+     * Keys spread uniformly over the whole range, hits chosen with a Zipf distribution, so a few hot keys scattered
+     * over the array take most of the lookups.
+     */
+    ZIPF,
+
+    /**
+     * Keys packed in dense clusters separated by wide gaps, hits chosen uniformly among them and misses falling
+     * inside the clusters.
+     */
+    CLUSTERED;
+
+    /**
+     * Exclusive upper limit of the keys.
+     */
+    public static final long KEY_LIMIT = 1L << 31;
+
+    private static final int CLUSTER_SIZE = 256;
+
+    private static final int MAX_CLUSTER_STEP = 4;
+
+    /**
+     * Generate sorted keys.
+     * @param size The number of keys.
+     * @param rng The random generator.
+     * @return A sorted array of keys, that may contain duplicates.
+     */
+    public long[] keys(int size, RandomGenerator rng) {
+        if (this != CLUSTERED) {
+            final long[] keys = rng.longs(size, 0L, KEY_LIMIT).toArray();
+            Arrays.sort(keys);
+            return keys;
+        }
+        final long[] keys = new long[size];
+        final int clusters = (size + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+        final long span = KEY_LIMIT / Math.max(1, clusters);
+        for (int cluster = 0; cluster < clusters; cluster++) {
+            long key = cluster * span + rng.nextLong(span - (long) CLUSTER_SIZE * MAX_CLUSTER_STEP);
+            final int to = Math.min((cluster + 1) * CLUSTER_SIZE, size);
+            for (int i = cluster * CLUSTER_SIZE; i < to; i++) {
+                keys[i] = key;
+                key += rng.nextInt(1, MAX_CLUSTER_STEP);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Generate a stream of targets for sorted keys.
+     * @param keys Keys generated by {@link #keys(int, RandomGenerator)}.
+     * @param count The number of targets.
+     * @param hitRatio The fraction of the targets that are present in {@code keys}.
+     * @param rng The random generator.
+     * @return The targets, in random order.
+     */
+    public long[] targets(long[] keys, int count, double hitRatio, RandomGenerator rng) {
+        final long[] targets = new long[count];
+        for (int i = 0; i < count; i++) {
+            targets[i] = (keys.length > 0 && rng.nextDouble() < hitRatio) ? keys[hitPosition(keys.length, rng)]
+                    : miss(keys, rng);
+        }
+        return targets;
+    }
+
+    private int hitPosition(int size, RandomGenerator rng) {
+        if (this != ZIPF) {
+            return rng.nextInt(size);
+        }
+        // Continuous approximation of a Zipf distribution with exponent 1: P(rank) ~ 1 / rank.
+        final long rank = (long) Math.exp(rng.nextDouble() * Math.log(size + 1.0d)) - 1L;
+        return (int) (Math.min(rank, size - 1L) * 0x9E3779B1L % size);
+    }
+
+    private long miss(long[] keys, RandomGenerator rng) {
+        long target;
+        do {
+            target = (this == CLUSTERED && keys.length > 0)
+                    ? keys[rng.nextInt(keys.length)] + rng.nextInt(1, MAX_CLUSTER_STEP)
+                    : rng.nextLong(KEY_LIMIT);
+        } while (Arrays.binarySearch(keys, target) >= 0);
+        return target;
+    }
+
+    /**
+     * Convert a key to a string with the same order.
+     * @param key A key lower than {@link #KEY_LIMIT}.
+     * @return <code>"key-"</code> followed by the key in base 36, padded to 6 digits.
+     */
+    public static String format(long key) {
+        final String digits = Long.toString(key, 36);
+        return "key-" + "000000".substring(digits.length()) + digits;
+    }
+}
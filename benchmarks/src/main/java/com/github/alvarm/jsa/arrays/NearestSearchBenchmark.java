@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.arrays;
+
+import com.github.alvarm.jsa.search.IterativeBinarySearch;
+import com.github.alvarm.jsa.search.NearestSearch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+public class NearestSearchBenchmark {
+
+    private static final int TARGETS = 1 << 12;
+
+    @Param({"16777216"})
+    private int size;
+
+    /**
+     * Tick timestamps in nanoseconds, with random gaps of up to a millisecond.
+     */
+    private long[] ticks;
+    private long[] targets;
+    private long[] sortedTargets;
+    private int[] out;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        ticks = new long[size];
+        ticks[0] = 1_700_000_000_000_000_000L;
+        for (int i = 1; i < size; i++) {
+            ticks[i] = ticks[i - 1] + rng.nextLong(1L, 1_000_000L);
+        }
+        targets = new long[TARGETS];
+        for (int i = 0; i < TARGETS; i++) {
+            targets[i] = rng.nextLong(ticks[0], ticks[size - 1]);
+        }
+        sortedTargets = targets.clone();
+        Arrays.sort(sortedTargets);
+        out = new int[TARGETS];
+    }
+
+    private long nextTarget() {
+        next = (next + 1) & (TARGETS - 1);
+        return targets[next];
+    }
+
+    @Benchmark
+    public int insertionPointFloor() {
+        final int position = IterativeBinarySearch.search(ticks, nextTarget());
+        return (position >= 0) ? position : ~position - 1;
+    }
+
+    @Benchmark
+    public int insertionPointNearest() {
+        final long target = nextTarget();
+        final int position = IterativeBinarySearch.search(ticks, target);
+        if (position >= 0) {
+            return position;
+        }
+        final int insertion = ~position;
+        if (insertion == 0 || insertion == ticks.length) {
+            return Math.min(insertion, ticks.length - 1);
+        }
+        return (ticks[insertion] - target < target - ticks[insertion - 1]) ? insertion : insertion - 1;
+    }
+
+    @Benchmark
+    public int floor() {
+        return NearestSearch.floor(ticks, nextTarget());
+    }
+
+    @Benchmark
+    public int nearest() {
+        return NearestSearch.nearest(ticks, nextTarget());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TARGETS)
+    public int[] nearestAll() {
+        NearestSearch.nearestAll(ticks, sortedTargets, out);
+        return out;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.arrays;
+
+import com.github.alvarm.jsa.search.IterativeBinarySearch;
+import com.github.alvarm.jsa.search.LongSnapshotIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class SnapshotIndexBenchmark {
+
+    private static final int SIZE = 1 << 20;
+
+    private static final int TARGETS = 1 << 12;
+
+    /**
+     * Work done by the writer between two publications, in {@link Blackhole#consumeCPU(long)} tokens.
+     */
+    private static final long WRITER_PAUSE = 1 << 16;
+
+    @State(Scope.Group)
+    public static class Shared {
+        private long[][] arrays;
+        private LongSnapshotIndex index;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private long[] lockedArray;
+        private int nextArray;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+            arrays = new long[2][];
+            for (int i = 0; i < arrays.length; i++) {
+                arrays[i] = rng.longs(SIZE, 0L, SIZE * 4L).toArray();
+                Arrays.sort(arrays[i]);
+            }
+            index = new LongSnapshotIndex(arrays[0]);
+            lockedArray = arrays[0];
+        }
+
+        private long[] nextArray() {
+            nextArray ^= 1;
+            return arrays[nextArray];
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Targets {
+        private long[] targets;
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            targets = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create().longs(TARGETS, 0L, SIZE * 4L).toArray();
+        }
+
+        private long nextTarget() {
+            next = (next + 1) & (TARGETS - 1);
+            return targets[next];
+        }
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    @GroupThreads(7)
+    public int snapshotSearch(Shared shared, Targets targets) {
+        return shared.index.search(targets.nextTarget());
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    @GroupThreads(1)
+    public long snapshotPublish(Shared shared) {
+        Blackhole.consumeCPU(WRITER_PAUSE);
+        return shared.index.publish(shared.nextArray());
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(7)
+    public int lockedSearch(Shared shared, Targets targets) {
+        final ReentrantReadWriteLock.ReadLock readLock = shared.lock.readLock();
+        readLock.lock();
+        try {
+            return IterativeBinarySearch.search(shared.lockedArray, targets.nextTarget());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public long[] lockedPublish(Shared shared) {
+        Blackhole.consumeCPU(WRITER_PAUSE);
+        final ReentrantReadWriteLock.WriteLock writeLock = shared.lock.writeLock();
+        writeLock.lock();
+        try {
+            shared.lockedArray = shared.nextArray();
+            return shared.lockedArray;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ReadOnly {
+        private LongSnapshotIndex index;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            long[] array = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L)
+                    .longs(SIZE, 0L, SIZE * 4L).toArray();
+            Arrays.sort(array);
+            index = new LongSnapshotIndex(array);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int snapshotSearchOnly(ReadOnly readOnly, Targets targets) {
+        return readOnly.index.search(targets.nextTarget());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.sorting;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MergeSortBenchmark {
+
+    private static final Comparator<Trade> BY_TIME = Comparator.comparingLong(Trade::time);
+
+    public record Trade(long time, int id) {
+    }
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private String[] sourceStrings;
+    private String[] strings;
+    private Trade[] sourceTrades;
+    private Trade[] trades;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        sourceStrings = rng.longs(size).mapToObj(Long::toHexString).toArray(String[]::new);
+        sourceTrades = new Trade[size];
+        for (int i = 0; i < size; i++) {
+            sourceTrades[i] = new Trade(rng.nextLong(size >> 4), i);
+        }
+        strings = new String[size];
+        trades = new Trade[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        System.arraycopy(sourceStrings, 0, strings, 0, size);
+        System.arraycopy(sourceTrades, 0, trades, 0, size);
+    }
+
+    @Benchmark
+    public String[] javaParallelSortStrings() {
+        Arrays.parallelSort(strings);
+        return strings;
+    }
+
+    @Benchmark
+    public String[] parallelMergeSortStrings() {
+        ParallelMergeSort.sort(strings);
+        return strings;
+    }
+
+    @Benchmark
+    public Trade[] javaParallelSortRecords() {
+        Arrays.parallelSort(trades, BY_TIME);
+        return trades;
+    }
+
+    @Benchmark
+    public Trade[] parallelMergeSortRecords() {
+        ParallelMergeSort.sort(trades, BY_TIME);
+        return trades;
+    }
+}
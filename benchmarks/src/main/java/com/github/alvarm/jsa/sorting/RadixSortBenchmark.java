@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.sorting;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGeneratorFactory;
+
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx16g"})
+public class RadixSortBenchmark {
+
+    /**
+     * The largest size needs three arrays of 4 GiB: the source, the copy being sorted and the sort buffer.
+     */
+    @Param({"10000000", "100000000", "1000000000"})
+    private int size;
+
+    private int[] source;
+    private int[] array;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L).ints(size).toArray();
+        array = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        System.arraycopy(source, 0, array, 0, size);
+    }
+
+    @Benchmark
+    public int[] javaSort() {
+        Arrays.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public int[] javaParallelSort() {
+        Arrays.parallelSort(array);
+        return array;
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        RadixSort.sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public int[] parallelRadixSort() {
+        ParallelRadixSort.sort(array);
+        return array;
+    }
+}
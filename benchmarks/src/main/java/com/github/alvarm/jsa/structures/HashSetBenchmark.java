@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.structures;
+
+import com.github.alvarm.jsa.search.LinearSearch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+public class HashSetBenchmark {
+
+    private static final int TARGETS = 1 << 12;
+
+    @Param({"1024", "65536", "4194304"})
+    private int size;
+
+    private int[] array;
+    private long[] longArray;
+    private IntHashSet intHashSet;
+    private LongHashSet longHashSet;
+    private Set<Integer> javaHashSet;
+    private int[] targets;
+    private long[] longTargets;
+    private boolean[] out;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        array = rng.ints(size).toArray();
+        longArray = new long[size];
+        intHashSet = new IntHashSet(size);
+        longHashSet = new LongHashSet(size);
+        javaHashSet = new HashSet<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            longArray[i] = array[i];
+            intHashSet.add(array[i]);
+            longHashSet.add(array[i]);
+            javaHashSet.add(array[i]);
+        }
+        // Half of the targets are present and half are most likely missing.
+        targets = new int[TARGETS];
+        longTargets = new long[TARGETS];
+        for (int i = 0; i < TARGETS; i++) {
+            targets[i] = (i % 2 == 0) ? array[rng.nextInt(size)] : rng.nextInt();
+            longTargets[i] = targets[i];
+        }
+        out = new boolean[TARGETS];
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (TARGETS - 1);
+        return next;
+    }
+
+    @Benchmark
+    public int linearSearch() {
+        return LinearSearch.search(array, targets[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean javaHashSetContains() {
+        return javaHashSet.contains(targets[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean intHashSetContains() {
+        return intHashSet.contains(targets[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean longHashSetContains() {
+        return longHashSet.contains(longTargets[nextIndex()]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TARGETS)
+    public boolean[] intHashSetContainsAll() {
+        intHashSet.containsAll(targets, out);
+        return out;
+    }
+}
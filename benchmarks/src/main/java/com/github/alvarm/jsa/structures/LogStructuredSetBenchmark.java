@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.structures;
+
+import com.github.alvarm.jsa.search.IterativeBinarySearch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+public class LogStructuredSetBenchmark {
+
+    private static final int TARGETS = 1 << 12;
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private RandomGenerator rng;
+    private LogStructuredLongSet set;
+    private long[] sorted;
+    private long[] targets;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        set = new LogStructuredLongSet();
+        for (int i = 0; i < size; i++) {
+            set.add(rng.nextLong());
+        }
+        sorted = set.toArray();
+        for (int i = 0; i < size; i++) {
+            set.add(rng.nextLong());
+            set.remove(sorted[rng.nextInt(sorted.length)]);
+        }
+        targets = new long[TARGETS];
+        for (int i = 0; i < TARGETS; i++) {
+            targets[i] = sorted[rng.nextInt(sorted.length)];
+        }
+    }
+
+    private long nextTarget() {
+        next = (next + 1) & (TARGETS - 1);
+        return targets[next];
+    }
+
+    @Benchmark
+    public boolean add() {
+        return set.add(rng.nextLong());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return set.contains(nextTarget());
+    }
+
+    @Benchmark
+    public int sortedArraySearch() {
+        return IterativeBinarySearch.search(sorted, nextTarget());
+    }
+}
@@ -29,6 +29,82 @@ public class Utils {
         return Holder.DOUBLE_EPSILON;
     }
 
+    /**
+     * Maps a float to an int whose signed ordering matches {@link Float#compare(float, float)}.<br>
+     * <code>-0.0f</code> sorts before <code>0.0f</code> and every NaN maps to the same value,
+     * greater than positive infinity.
+     * @param value A float value.
+     * @return The sortable bit pattern of <code>value</code>.
+     * @since 1.0
+     */
+    public static int sortableBits(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+    }
+
+    /**
+     * Maps a double to a long whose signed ordering matches {@link Double#compare(double, double)}.<br>
+     * <code>-0.0d</code> sorts before <code>0.0d</code> and every NaN maps to the same value,
+     * greater than positive infinity.
+     * @param value A double value.
+     * @return The sortable bit pattern of <code>value</code>.
+     * @since 1.0
+     */
+    public static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Inverse of {@link #sortableBits(float)}.
+     * @param bits A sortable bit pattern.
+     * @return The float whose sortable bit pattern is <code>bits</code>.
+     * @since 1.0
+     */
+    public static float fromSortableBits(int bits) {
+        return Float.intBitsToFloat(bits ^ ((bits >> 31) & Integer.MAX_VALUE));
+    }
+
+    /**
+     * Inverse of {@link #sortableBits(double)}.
+     * @param bits A sortable bit pattern.
+     * @return The double whose sortable bit pattern is <code>bits</code>.
+     * @since 1.0
+     */
+    public static double fromSortableBits(long bits) {
+        return Double.longBitsToDouble(bits ^ ((bits >> 63) & Long.MAX_VALUE));
+    }
+
+    /**
+     * Maps every element of a float array with {@link #sortableBits(float)}.<br>
+     * A sorted float array becomes a sorted int array that can be searched with the integer overloads.
+     * @param array An array.
+     * @return A new array with the sortable bit patterns of <code>array</code>.
+     * @since 1.0
+     */
+    public static int[] sortableBits(float[] array) {
+        int[] bits = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            bits[i] = sortableBits(array[i]);
+        }
+        return bits;
+    }
+
+    /**
+     * Maps every element of a double array with {@link #sortableBits(double)}.<br>
+     * A sorted double array becomes a sorted long array that can be searched with the long overloads.
+     * @param array An array.
+     * @return A new array with the sortable bit patterns of <code>array</code>.
+     * @since 1.0
+     */
+    public static long[] sortableBits(double[] array) {
+        long[] bits = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            bits[i] = sortableBits(array[i]);
+        }
+        return bits;
+    }
+
     private static class Holder {
         private static final float FLOAT_EPSILON = floatEpsilon();
 
@@ -0,0 +1,483 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.Utils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Class that implements the Binary Search algorithm for many targets at once.<br>
+ * This algorithm assumes that the array is sorted.<br>
+ * Targets are processed in groups of {@link #GROUP_SIZE} that advance in lockstep: every step of the
+ * search does one probe for each target in the group before moving to the next step. The probes of a
+ * step do not depend on each other, so the CPU can have as many cache misses in flight as targets in the group,
+ * instead of waiting for each miss in turn as a loop over {@link IterativeBinarySearch#search(int[], int)} does.<br>
+ * Every probe uses the same branchless selection as {@link BranchlessBinarySearch}, so the result for each target
+ * is the same as calling {@link BranchlessBinarySearch} on it.<br>
+ * The results are written to an array provided by the caller, which is also used to hold the state of
+ * the searches, so no memory is allocated.<br>
+ * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n))</code> with
+ * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+ * The memory cost for this implementation is <code>O(1)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class BatchBinarySearch {
+
+    /**
+     * Number of searches that advance together.
+     * @since 1.0
+     */
+    public static final int GROUP_SIZE = 16;
+
+    /**
+     * Search every target into a sorted array.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted integer array.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            <code>~insertionPoint</code> if it is not present in {@code array},
+     *            otherwise the position of its first occurrence.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void searchAll(int[] array, int[] targets, int[] out) {
+        checkOutput(targets.length, out);
+        final int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, 0, targets.length, ~0);
+            return;
+        }
+        for (int from = 0; from < targets.length; from += GROUP_SIZE) {
+            final int to = Math.min(from + GROUP_SIZE, targets.length);
+            Arrays.fill(out, from, to, 0);
+            int length = n;
+            while (length > 1) {
+                final int half = length >>> 1;
+                for (int i = from; i < to; i++) {
+                    final int base = out[i];
+                    out[i] = (array[base + half - 1] < targets[i]) ? base + half : base;
+                }
+                length -= half;
+            }
+            for (int i = from; i < to; i++) {
+                final int target = targets[i];
+                final int base = out[i] + ((array[out[i]] < target) ? 1 : 0);
+                out[i] = (base < n && array[base] == target) ? base : ~base;
+            }
+        }
+    }
+
+    /**
+     * Search every target into a sorted array.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            <code>~insertionPoint</code> if it is not present in {@code array},
+     *            otherwise the position of its first occurrence.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void searchAll(long[] array, long[] targets, int[] out) {
+        checkOutput(targets.length, out);
+        final int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, 0, targets.length, ~0);
+            return;
+        }
+        for (int from = 0; from < targets.length; from += GROUP_SIZE) {
+            final int to = Math.min(from + GROUP_SIZE, targets.length);
+            Arrays.fill(out, from, to, 0);
+            int length = n;
+            while (length > 1) {
+                final int half = length >>> 1;
+                for (int i = from; i < to; i++) {
+                    final int base = out[i];
+                    out[i] = (array[base + half - 1] < targets[i]) ? base + half : base;
+                }
+                length -= half;
+            }
+            for (int i = from; i < to; i++) {
+                final long target = targets[i];
+                final int base = out[i] + ((array[out[i]] < target) ? 1 : 0);
+                out[i] = (base < n && array[base] == target) ? base : ~base;
+            }
+        }
+    }
+
+    /**
+     * Search every target into a sorted array.<br>
+     * Each target is narrowed down to the first element that is not lower than it,
+     * then that element and the previous one are compared using {@code epsilon}.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            <code>~insertionPoint</code> if it is not present in {@code array},
+     *            otherwise its position in the array.
+     * @param epsilon The precision threshold to admit if two numbers are equal.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void searchAll(float[] array, float[] targets, int[] out, float epsilon) {
+        checkOutput(targets.length, out);
+        final int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, 0, targets.length, ~0);
+            return;
+        }
+        for (int from = 0; from < targets.length; from += GROUP_SIZE) {
+            final int to = Math.min(from + GROUP_SIZE, targets.length);
+            Arrays.fill(out, from, to, 0);
+            int length = n;
+            while (length > 1) {
+                final int half = length >>> 1;
+                for (int i = from; i < to; i++) {
+                    final int base = out[i];
+                    out[i] = (array[base + half - 1] < targets[i]) ? base + half : base;
+                }
+                length -= half;
+            }
+            for (int i = from; i < to; i++) {
+                final float target = targets[i];
+                final int base = out[i] + ((array[out[i]] < target) ? 1 : 0);
+                if (base < n && Math.abs(target - array[base]) < epsilon) {
+                    out[i] = base;
+                } else if (base > 0 && Math.abs(target - array[base - 1]) < epsilon) {
+                    out[i] = base - 1;
+                } else {
+                    out[i] = ~base;
+                }
+            }
+        }
+    }
+
+    /**
+     * Search every target into a sorted array.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            <code>~insertionPoint</code> if it is not present in {@code array},
+     *            otherwise its position in the array.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void searchAll(float[] array, float[] targets, int[] out) {
+        searchAll(array, targets, out, Utils.getFloatEpsilon());
+    }
+
+    /**
+     * Search every target into a sorted array.<br>
+     * Each target is narrowed down to the first element that is not lower than it,
+     * then that element and the previous one are compared using {@code epsilon}.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            <code>~insertionPoint</code> if it is not present in {@code array},
+     *            otherwise its position in the array.
+     * @param epsilon The precision threshold to admit if two numbers are equal.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void searchAll(double[] array, double[] targets, int[] out, double epsilon) {
+        checkOutput(targets.length, out);
+        final int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, 0, targets.length, ~0);
+            return;
+        }
+        for (int from = 0; from < targets.length; from += GROUP_SIZE) {
+            final int to = Math.min(from + GROUP_SIZE, targets.length);
+            Arrays.fill(out, from, to, 0);
+            int length = n;
+            while (length > 1) {
+                final int half = length >>> 1;
+                for (int i = from; i < to; i++) {
+                    final int base = out[i];
+                    out[i] = (array[base + half - 1] < targets[i]) ? base + half : base;
+                }
+                length -= half;
+            }
+            for (int i = from; i < to; i++) {
+                final double target = targets[i];
+                final int base = out[i] + ((array[out[i]] < target) ? 1 : 0);
+                if (base < n && Math.abs(target - array[base]) < epsilon) {
+                    out[i] = base;
+                } else if (base > 0 && Math.abs(target - array[base - 1]) < epsilon) {
+                    out[i] = base - 1;
+                } else {
+                    out[i] = ~base;
+                }
+            }
+        }
+    }
+
+    /**
+     * Search every target into a sorted array.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            <code>~insertionPoint</code> if it is not present in {@code array},
+     *            otherwise its position in the array.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void searchAll(double[] array, double[] targets, int[] out) {
+        searchAll(array, targets, out, Utils.getDoubleEpsilon());
+    }
+
+    /**
+     * Search every target into a sorted array.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array A sorted array.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            <code>~insertionPoint</code> if it is not present in {@code array},
+     *            otherwise the position of its first occurrence.
+     * @param comparator A comparator that the array follows.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     * @see Comparator
+     */
+    public static <E> void searchAll(E[] array, E[] targets, int[] out, Comparator<E> comparator) {
+        checkOutput(targets.length, out);
+        final int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, 0, targets.length, ~0);
+            return;
+        }
+        for (int from = 0; from < targets.length; from += GROUP_SIZE) {
+            final int to = Math.min(from + GROUP_SIZE, targets.length);
+            Arrays.fill(out, from, to, 0);
+            int length = n;
+            while (length > 1) {
+                final int half = length >>> 1;
+                for (int i = from; i < to; i++) {
+                    final int base = out[i];
+                    out[i] = (comparator.compare(targets[i], array[base + half - 1]) > 0) ? base + half : base;
+                }
+                length -= half;
+            }
+            for (int i = from; i < to; i++) {
+                final int base = out[i];
+                final int compare = comparator.compare(targets[i], array[base]);
+                if (compare == 0) {
+                    out[i] = base;
+                } else {
+                    out[i] = (compare > 0) ? ~(base + 1) : ~base;
+                }
+            }
+        }
+    }
+
+    /**
+     * Search every target key into an array sorted by a integer key.<br>
+     * The keys are compared as primitives, so there is no need to build target elements
+     * nor to box the keys.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array An array sorted by {@code key}.
+     * @param key The function that extracts the key of an element.
+     * @param targets The keys to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            <code>~insertionPoint</code> if no element has it as key,
+     *            otherwise the position of the first element with that key.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static <E> void searchAllByIntKey(E[] array, ToIntFunction<? super E> key, int[] targets, int[] out) {
+        checkOutput(targets.length, out);
+        final int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, 0, targets.length, ~0);
+            return;
+        }
+        for (int from = 0; from < targets.length; from += GROUP_SIZE) {
+            final int to = Math.min(from + GROUP_SIZE, targets.length);
+            Arrays.fill(out, from, to, 0);
+            int length = n;
+            while (length > 1) {
+                final int half = length >>> 1;
+                for (int i = from; i < to; i++) {
+                    final int base = out[i];
+                    out[i] = (key.applyAsInt(array[base + half - 1]) < targets[i]) ? base + half : base;
+                }
+                length -= half;
+            }
+            for (int i = from; i < to; i++) {
+                final int target = targets[i];
+                final int base = out[i] + ((key.applyAsInt(array[out[i]]) < target) ? 1 : 0);
+                out[i] = (base < n && key.applyAsInt(array[base]) == target) ? base : ~base;
+            }
+        }
+    }
+
+    /**
+     * Search every target key into an array sorted by a long key.<br>
+     * The keys are compared as primitives, so there is no need to build target elements
+     * nor to box the keys.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array An array sorted by {@code key}.
+     * @param key The function that extracts the key of an element.
+     * @param targets The keys to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            <code>~insertionPoint</code> if no element has it as key,
+     *            otherwise the position of the first element with that key.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static <E> void searchAllByLongKey(E[] array, ToLongFunction<? super E> key, long[] targets,
+                                              int[] out) {
+        checkOutput(targets.length, out);
+        final int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, 0, targets.length, ~0);
+            return;
+        }
+        for (int from = 0; from < targets.length; from += GROUP_SIZE) {
+            final int to = Math.min(from + GROUP_SIZE, targets.length);
+            Arrays.fill(out, from, to, 0);
+            int length = n;
+            while (length > 1) {
+                final int half = length >>> 1;
+                for (int i = from; i < to; i++) {
+                    final int base = out[i];
+                    out[i] = (key.applyAsLong(array[base + half - 1]) < targets[i]) ? base + half : base;
+                }
+                length -= half;
+            }
+            for (int i = from; i < to; i++) {
+                final long target = targets[i];
+                final int base = out[i] + ((key.applyAsLong(array[out[i]]) < target) ? 1 : 0);
+                out[i] = (base < n && key.applyAsLong(array[base]) == target) ? base : ~base;
+            }
+        }
+    }
+
+    /**
+     * Search every target key into an array sorted by a double key.<br>
+     * The keys are compared as primitives, so there is no need to build target elements
+     * nor to box the keys.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array An array sorted by {@code key}.
+     * @param key The function that extracts the key of an element.
+     * @param targets The keys to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            <code>~insertionPoint</code> if no element has it as key,
+     *            otherwise the position of an element with that key.
+     * @param epsilon The precision threshold to admit if two numbers are equal.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static <E> void searchAllByDoubleKey(E[] array, ToDoubleFunction<? super E> key, double[] targets,
+                                                int[] out, double epsilon) {
+        checkOutput(targets.length, out);
+        final int n = array.length;
+        if (n == 0) {
+            Arrays.fill(out, 0, targets.length, ~0);
+            return;
+        }
+        for (int from = 0; from < targets.length; from += GROUP_SIZE) {
+            final int to = Math.min(from + GROUP_SIZE, targets.length);
+            Arrays.fill(out, from, to, 0);
+            int length = n;
+            while (length > 1) {
+                final int half = length >>> 1;
+                for (int i = from; i < to; i++) {
+                    final int base = out[i];
+                    out[i] = (key.applyAsDouble(array[base + half - 1]) < targets[i]) ? base + half : base;
+                }
+                length -= half;
+            }
+            for (int i = from; i < to; i++) {
+                final double target = targets[i];
+                final int base = out[i] + ((key.applyAsDouble(array[out[i]]) < target) ? 1 : 0);
+                if (base < n && Math.abs(target - key.applyAsDouble(array[base])) < epsilon) {
+                    out[i] = base;
+                } else if (base > 0 && Math.abs(target - key.applyAsDouble(array[base - 1])) < epsilon) {
+                    out[i] = base - 1;
+                } else {
+                    out[i] = ~base;
+                }
+            }
+        }
+    }
+
+    /**
+     * Search every target key into an array sorted by a double key.<br>
+     * The keys are compared as primitives, so there is no need to build target elements
+     * nor to box the keys.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array An array sorted by {@code key}.
+     * @param key The function that extracts the key of an element.
+     * @param targets The keys to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            <code>~insertionPoint</code> if no element has it as key,
+     *            otherwise the position of an element with that key.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static <E> void searchAllByDoubleKey(E[] array, ToDoubleFunction<? super E> key, double[] targets,
+                                                int[] out) {
+        searchAllByDoubleKey(array, key, targets, out, Utils.getDoubleEpsilon());
+    }
+
+    private static void checkOutput(int count, int[] out) {
+        if (out.length < count) {
+            throw new IllegalArgumentException("Output array length " + out.length
+                    + " is lower than the number of targets " + count);
+        }
+    }
+}
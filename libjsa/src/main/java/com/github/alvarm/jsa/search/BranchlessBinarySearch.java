@@ -0,0 +1,257 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.Utils;
+
+import java.util.Comparator;
+
+/**
+ * Class that implements the Binary Search algorithm without data dependent branches.<br>
+ * This algorithm assumes that the array is sorted.<br>
+ * Unlike {@link IterativeBinarySearch}, it does not stop when it finds the target. It always
+ * halves the search range <code>ceil(log<sub>2</sub>(n))</code> times, choosing the next half with an expression
+ * that can be compiled to a conditional move, and checks for equality only once at the end.
+ * This removes the branch mispredictions of the three-way comparison, so the running time
+ * only depends on the length of the array.<br>
+ * When the target is present several times, the position of its first occurrence is returned.<br>
+ * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+ * <i>n</i> being <code>array.length</code>.<br>
+ * The memory cost for this implementation is <code>O(1)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class BranchlessBinarySearch {
+
+    /**
+     * Search a number into a sorted array using the branchless Binary Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted integer array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns the position of its first occurrence in the array.
+     * @since 1.0
+     */
+    public static int search(int[] array, int target) {
+        int base = 0;
+        int length = array.length;
+        if (length == 0) {
+            return ~0;
+        }
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (array[base + half - 1] < target) ? base + half : base;
+            length -= half;
+        }
+        base += (array[base] < target) ? 1 : 0;
+        return (base < array.length && array[base] == target) ? base : ~base;
+    }
+
+    /**
+     * Search a number into a sorted array using the branchless Binary Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns the position of its first occurrence in the array.
+     * @since 1.0
+     */
+    public static int search(long[] array, long target) {
+        int base = 0;
+        int length = array.length;
+        if (length == 0) {
+            return ~0;
+        }
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (array[base + half - 1] < target) ? base + half : base;
+            length -= half;
+        }
+        base += (array[base] < target) ? 1 : 0;
+        return (base < array.length && array[base] == target) ? base : ~base;
+    }
+
+    /**
+     * Search a number into a sorted array using the branchless Binary Search algorithm.<br>
+     * The range is narrowed down to the first element that is not lower than {@code target},
+     * then that element and the previous one are compared using {@code epsilon}.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @param epsilon The precision threshold to admit if two numbers are equal.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int search(float[] array, float target, float epsilon) {
+        int base = 0;
+        int length = array.length;
+        if (length == 0) {
+            return ~0;
+        }
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (array[base + half - 1] < target) ? base + half : base;
+            length -= half;
+        }
+        base += (array[base] < target) ? 1 : 0;
+        if (base < array.length && Math.abs(target - array[base]) < epsilon) {
+            return base;
+        }
+        if (base > 0 && Math.abs(target - array[base - 1]) < epsilon) {
+            return base - 1;
+        }
+        return ~base;
+    }
+
+    /**
+     * Search a number into a sorted array using the branchless Binary Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int search(float[] array, float target) {
+        return search(array, target, Utils.getFloatEpsilon());
+    }
+
+    /**
+     * Search a number into a sorted array using the branchless Binary Search algorithm.<br>
+     * The range is narrowed down to the first element that is not lower than {@code target},
+     * then that element and the previous one are compared using {@code epsilon}.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @param epsilon The precision threshold to admit if two numbers are equal.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int search(double[] array, double target, double epsilon) {
+        int base = 0;
+        int length = array.length;
+        if (length == 0) {
+            return ~0;
+        }
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (array[base + half - 1] < target) ? base + half : base;
+            length -= half;
+        }
+        base += (array[base] < target) ? 1 : 0;
+        if (base < array.length && Math.abs(target - array[base]) < epsilon) {
+            return base;
+        }
+        if (base > 0 && Math.abs(target - array[base - 1]) < epsilon) {
+            return base - 1;
+        }
+        return ~base;
+    }
+
+    /**
+     * Search a number into a sorted array using the branchless Binary Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int search(double[] array, double target) {
+        return search(array, target, Utils.getDoubleEpsilon());
+    }
+
+    /**
+     * Search an element into a sorted array using the branchless Binary Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns the position of its first occurrence in the array.
+     * @since 1.0
+     * @see Comparable
+     */
+    public static <E extends Comparable<E>> int search(E[] array, E target) {
+        int base = 0;
+        int length = array.length;
+        if (length == 0) {
+            return ~0;
+        }
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (target.compareTo(array[base + half - 1]) > 0) ? base + half : base;
+            length -= half;
+        }
+        final int compare = target.compareTo(array[base]);
+        if (compare == 0) {
+            return base;
+        }
+        return (compare > 0) ? ~(base + 1) : ~base;
+    }
+
+    /**
+     * Search an element into a sorted array using the branchless Binary Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @param comparator A comparator that the array follows.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns the position of its first occurrence in the array.
+     * @since 1.0
+     * @see Comparator
+     */
+    public static <E> int search(E[] array, E target, Comparator<E> comparator) {
+        int base = 0;
+        int length = array.length;
+        if (length == 0) {
+            return ~0;
+        }
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (comparator.compare(target, array[base + half - 1]) > 0) ? base + half : base;
+            length -= half;
+        }
+        final int compare = comparator.compare(target, array[base]);
+        if (compare == 0) {
+            return base;
+        }
+        return (compare > 0) ? ~(base + 1) : ~base;
+    }
+}
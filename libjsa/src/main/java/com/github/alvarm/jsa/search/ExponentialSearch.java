@@ -0,0 +1,319 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import java.util.Comparator;
+
+/**
+ * Class that implements the Exponential (galloping) Search algorithm.<br>
+ * This algorithm assumes that the array is sorted.<br>
+ * Starting from a hint position, the algorithm probes positions at distance 1, 2, 4, 8... until it
+ * steps over the target, and then it runs a Binary Search inside the last gap.
+ * The cost depends on the distance <i>d</i> between the hint and the answer instead of on the length of the array,
+ * which makes it a good fit for resolving sorted targets, where each answer is the hint for the next one.<br>
+ * When the target is present several times, the position of its first occurrence is returned.<br>
+ * The computational cost for this algorithm is <code>O(log<sub>2</sub>(d))</code> with
+ * <i>d</i> being the distance between the hint and the position of the target.<br>
+ * The memory cost for this implementation is <code>O(1)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class ExponentialSearch {
+
+    /**
+     * Number of galloping probes {@link IntFinger}, {@link LongFinger} and {@link Finger} make before falling
+     * back to a Binary Search over the rest of the array.
+     */
+    static final int GALLOP_LIMIT = 8;
+
+    /**
+     * Search a number into a sorted array galloping from its first position.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(i))</code> with
+     * <i>i</i> being the position of the target.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted integer array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns the position of its first occurrence in the array.
+     * @since 1.0
+     */
+    public static int search(int[] array, int target) {
+        return search(array, target, 0);
+    }
+
+    /**
+     * Search a number into a sorted array galloping from a hint position.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(d))</code> with
+     * <i>d</i> being the distance between {@code hint} and the position of the target.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted integer array.
+     * @param target The target to search for.
+     * @param hint The position where the search starts. Values outside the array are clamped to its bounds.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns the position of its first occurrence in the array.
+     * @since 1.0
+     */
+    public static int search(int[] array, int target, int hint) {
+        final int position = lowerBound(array, target, Math.max(0, Math.min(hint, array.length)), Integer.MAX_VALUE);
+        return (position < array.length && array[position] == target) ? position : ~position;
+    }
+
+    /**
+     * Search every target into a sorted array in a single forward pass.<br>
+     * Each search gallops from the position found for the previous target, so when {@code targets}
+     * is sorted the whole array is traversed at most once.
+     * Unsorted targets are also accepted, galloping backwards when needed.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n / m))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted integer array.
+     * @param targets The targets to search for, preferably sorted.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            <code>~insertionPoint</code> if it is not present in {@code array},
+     *            otherwise the position of its first occurrence.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void searchAll(int[] array, int[] targets, int[] out) {
+        checkOutput(targets.length, out);
+        int hint = 0;
+        for (int i = 0; i < targets.length; i++) {
+            final int target = targets[i];
+            hint = lowerBound(array, target, hint, Integer.MAX_VALUE);
+            out[i] = (hint < array.length && array[hint] == target) ? hint : ~hint;
+        }
+    }
+
+    /**
+     * Search a number into a sorted array galloping from its first position.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(i))</code> with
+     * <i>i</i> being the position of the target.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns the position of its first occurrence in the array.
+     * @since 1.0
+     */
+    public static int search(long[] array, long target) {
+        return search(array, target, 0);
+    }
+
+    /**
+     * Search a number into a sorted array galloping from a hint position.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(d))</code> with
+     * <i>d</i> being the distance between {@code hint} and the position of the target.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @param hint The position where the search starts. Values outside the array are clamped to its bounds.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns the position of its first occurrence in the array.
+     * @since 1.0
+     */
+    public static int search(long[] array, long target, int hint) {
+        final int position = lowerBound(array, target, Math.max(0, Math.min(hint, array.length)), Integer.MAX_VALUE);
+        return (position < array.length && array[position] == target) ? position : ~position;
+    }
+
+    /**
+     * Search every target into a sorted array in a single forward pass.<br>
+     * Each search gallops from the position found for the previous target, so when {@code targets}
+     * is sorted the whole array is traversed at most once.
+     * Unsorted targets are also accepted, galloping backwards when needed.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n / m))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param targets The targets to search for, preferably sorted.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            <code>~insertionPoint</code> if it is not present in {@code array},
+     *            otherwise the position of its first occurrence.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void searchAll(long[] array, long[] targets, int[] out) {
+        checkOutput(targets.length, out);
+        int hint = 0;
+        for (int i = 0; i < targets.length; i++) {
+            final long target = targets[i];
+            hint = lowerBound(array, target, hint, Integer.MAX_VALUE);
+            out[i] = (hint < array.length && array[hint] == target) ? hint : ~hint;
+        }
+    }
+
+    /**
+     * Find the first position whose value is not lower than the target, galloping from {@code hint}.<br>
+     * After {@code gallopLimit} probes without stepping over the target, the rest of the array is bisected.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @param hint A position between <i>0</i> and <code>array.length</code>, both inclusive.
+     * @param gallopLimit The maximum number of galloping probes.
+     * @return The first position whose value is not lower than {@code target}, or <code>array.length</code>.
+     */
+    static int lowerBound(int[] array, int target, int hint, int gallopLimit) {
+        final int n = array.length;
+        int low;
+        int high;
+        int step = 1;
+        if (hint < n && array[hint] < target) {
+            low = hint + 1;
+            high = n;
+            for (int probes = 0; probes < gallopLimit && step > 0 && step < n - hint; probes++) {
+                final int probe = hint + step;
+                if (array[probe] >= target) {
+                    high = probe;
+                    break;
+                }
+                low = probe + 1;
+                step <<= 1;
+            }
+        } else {
+            low = 0;
+            high = hint;
+            for (int probes = 0; probes < gallopLimit && step > 0 && step <= hint; probes++) {
+                final int probe = hint - step;
+                if (array[probe] < target) {
+                    low = probe + 1;
+                    break;
+                }
+                high = probe;
+                step <<= 1;
+            }
+        }
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (array[middle] < target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Find the first position whose value is not lower than the target, galloping from {@code hint}.<br>
+     * After {@code gallopLimit} probes without stepping over the target, the rest of the array is bisected.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @param hint A position between <i>0</i> and <code>array.length</code>, both inclusive.
+     * @param gallopLimit The maximum number of galloping probes.
+     * @return The first position whose value is not lower than {@code target}, or <code>array.length</code>.
+     */
+    static int lowerBound(long[] array, long target, int hint, int gallopLimit) {
+        final int n = array.length;
+        int low;
+        int high;
+        int step = 1;
+        if (hint < n && array[hint] < target) {
+            low = hint + 1;
+            high = n;
+            for (int probes = 0; probes < gallopLimit && step > 0 && step < n - hint; probes++) {
+                final int probe = hint + step;
+                if (array[probe] >= target) {
+                    high = probe;
+                    break;
+                }
+                low = probe + 1;
+                step <<= 1;
+            }
+        } else {
+            low = 0;
+            high = hint;
+            for (int probes = 0; probes < gallopLimit && step > 0 && step <= hint; probes++) {
+                final int probe = hint - step;
+                if (array[probe] < target) {
+                    low = probe + 1;
+                    break;
+                }
+                high = probe;
+                step <<= 1;
+            }
+        }
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (array[middle] < target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Find the first position whose value is not lower than the target, galloping from {@code hint}.<br>
+     * After {@code gallopLimit} probes without stepping over the target, the rest of the array is bisected.
+     * @param array An array sorted by {@code comparator}.
+     * @param target The target to search for.
+     * @param comparator The comparator used to sort the array.
+     * @param hint A position between <i>0</i> and <code>array.length</code>, both inclusive.
+     * @param gallopLimit The maximum number of galloping probes.
+     * @return The first position whose value is not lower than {@code target}, or <code>array.length</code>.
+     */
+    static <E> int lowerBound(E[] array, E target, Comparator<E> comparator, int hint, int gallopLimit) {
+        final int n = array.length;
+        int low;
+        int high;
+        int step = 1;
+        if (hint < n && comparator.compare(array[hint], target) < 0) {
+            low = hint + 1;
+            high = n;
+            for (int probes = 0; probes < gallopLimit && step > 0 && step < n - hint; probes++) {
+                final int probe = hint + step;
+                if (comparator.compare(array[probe], target) >= 0) {
+                    high = probe;
+                    break;
+                }
+                low = probe + 1;
+                step <<= 1;
+            }
+        } else {
+            low = 0;
+            high = hint;
+            for (int probes = 0; probes < gallopLimit && step > 0 && step <= hint; probes++) {
+                final int probe = hint - step;
+                if (comparator.compare(array[probe], target) < 0) {
+                    low = probe + 1;
+                    break;
+                }
+                high = probe;
+                step <<= 1;
+            }
+        }
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (comparator.compare(array[middle], target) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static void checkOutput(int count, int[] out) {
+        if (out.length < count) {
+            throw new IllegalArgumentException("Output array length " + out.length
+                    + " is lower than the number of targets " + count);
+        }
+    }
+}
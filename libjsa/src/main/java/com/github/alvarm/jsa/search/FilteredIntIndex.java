@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.structures.BlockedBloomFilter;
+import com.github.alvarm.jsa.structures.MembershipFilter;
+import com.github.alvarm.jsa.structures.XorFilter;
+
+/**
+ * Search index that checks a {@link MembershipFilter} before searching a sorted int array.<br>
+ * When most lookups are for missing keys, the filter rejects them after reading one or a few cache lines,
+ * and only the keys that may be present pay the full {@link IterativeBinarySearch} descent.<br>
+ * The index counts how many lookups the filter rejected and how many it let through for keys that were
+ * missing, to compare the observed false positive rate with the expected one. The counters keep one padded cell
+ * per thread, so threads sharing the index never write to the same cache line. Reading them sums every cell and
+ * only sees the increments already visible to the reader.<br>
+ * The computational cost for a search is <code>O(1)</code> for rejected keys and
+ * <code>O(log<sub>2</sub>(n))</code> otherwise, with <i>n</i> being the number of indexed elements.<br>
+ * The memory cost for this index is the memory of the filter.
+ * @since 1.0
+ * @author alvarm
+ */
+public class FilteredIntIndex {
+
+    private final int[] array;
+
+    private final MembershipFilter filter;
+
+    private volatile ThreadCounter rejected = new ThreadCounter();
+
+    private volatile ThreadCounter falsePositives = new ThreadCounter();
+
+    /**
+     * Build an index over a sorted array and a filter.
+     * @param array A sorted array. It is not copied, it must not be changed while the index is used.
+     * @param filter A filter that contains every element of {@code array}.
+     * @since 1.0
+     */
+    public FilteredIntIndex(int[] array, MembershipFilter filter) {
+        this.array = array;
+        this.filter = filter;
+    }
+
+    /**
+     * Build an index over a sorted array with a {@link BlockedBloomFilter}.
+     * @param array A sorted array. It is not copied, it must not be changed while the index is used.
+     * @param bitsPerKey The number of bits of the filter for every element of {@code array}.
+     * @return The new index.
+     * @since 1.0
+     */
+    public static FilteredIntIndex withBloomFilter(int[] array, int bitsPerKey) {
+        return new FilteredIntIndex(array, BlockedBloomFilter.of(array, bitsPerKey));
+    }
+
+    /**
+     * Build an index over a sorted array with a {@link XorFilter}.
+     * @param array A sorted array. It is not copied, it must not be changed while the index is used.
+     * @return The new index.
+     * @since 1.0
+     */
+    public static FilteredIntIndex withXorFilter(int[] array) {
+        return new FilteredIntIndex(array, XorFilter.of(array));
+    }
+
+    /**
+     * Find the position of a number in the index.<br>
+     * Unlike the <code>search</code> methods of this package, a missing number returns <i>-1</i> and not its
+     * insertion point, because the filter rejects most missing numbers without knowing where they would be.
+     * @param target The target to search for.
+     * @return <i>-1</i> if {@code target} is not present in the array.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public int indexOf(int target) {
+        if (!filter.mightContain(target)) {
+            rejected.increment();
+            return -1;
+        }
+        final int position = IterativeBinarySearch.search(array, target);
+        if (position < 0) {
+            falsePositives.increment();
+            return -1;
+        }
+        return position;
+    }
+
+    /**
+     * Check if a number is in the index.
+     * @param target The target to search for.
+     * @return <code>true</code> if {@code target} is present in the array.
+     * @since 1.0
+     */
+    public boolean contains(int target) {
+        return indexOf(target) >= 0;
+    }
+
+    /**
+     * @return The fraction of the lookups for missing keys that the filter did not reject,
+     * or <i>0</i> if there were none.
+     * @since 1.0
+     */
+    public double observedFalsePositiveRate() {
+        final long positives = falsePositives.sum();
+        final long misses = rejected.sum() + positives;
+        return (misses == 0L) ? 0.0d : (double) positives / misses;
+    }
+
+    /**
+     * @return The false positive rate expected by the filter.
+     * @since 1.0
+     */
+    public double expectedFalsePositiveRate() {
+        return filter.falsePositiveRate();
+    }
+
+    /**
+     * @return The number of bits of memory used by the filter for every key.
+     * @since 1.0
+     */
+    public double bitsPerKey() {
+        return filter.bitsPerKey();
+    }
+
+    /**
+     * @return The filter checked before every search.
+     * @since 1.0
+     */
+    public MembershipFilter filter() {
+        return filter;
+    }
+
+    /**
+     * Reset the counters of rejected lookups and false positives.<br>
+     * The counters are replaced, so increments of other threads that are still running a search may be lost.
+     * @since 1.0
+     */
+    public void resetStatistics() {
+        rejected = new ThreadCounter();
+        falsePositives = new ThreadCounter();
+    }
+}
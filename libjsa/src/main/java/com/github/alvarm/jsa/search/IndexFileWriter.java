@@ -0,0 +1,218 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Class that writes sorted arrays to index files that {@link MappedIndexFile} can search without loading them.<br>
+ * A file starts with a header of {@link #HEADER_SIZE} bytes:
+ * <table>
+ *     <caption>Header</caption>
+ *     <tr><th>Offset</th><th>Size</th><th>Content</th></tr>
+ *     <tr><td>0</td><td>4</td><td>The ASCII characters <code>JSAI</code></td></tr>
+ *     <tr><td>4</td><td>1</td><td>Format version, currently {@link #VERSION}</td></tr>
+ *     <tr><td>5</td><td>1</td><td>Key size in bytes, 4 for <code>int</code> and 8 for <code>long</code></td></tr>
+ *     <tr><td>6</td><td>1</td><td>Byte order, 0 for little-endian and 1 for big-endian</td></tr>
+ *     <tr><td>7</td><td>1</td><td>Ordinal of the {@link IndexLayout}</td></tr>
+ *     <tr><td>8</td><td>8</td><td>Number of elements of the sorted array</td></tr>
+ *     <tr><td>16</td><td>8</td><td>Offset of the key block</td></tr>
+ *     <tr><td>24</td><td>8</td><td>Number of keys in the key block</td></tr>
+ *     <tr><td>32</td><td>8</td><td>Offset of the auxiliary <code>int</code> block</td></tr>
+ *     <tr><td>40</td><td>8</td><td>Number of values in the auxiliary block</td></tr>
+ *     <tr><td>48</td><td>4</td><td>Number of keys per node for {@link IndexLayout#BTREE}, 0 for other layouts</td></tr>
+ * </table>
+ * The rest of the header is zero. Numbers are written in the byte order of the file, and blocks start at
+ * multiples of {@link #ALIGNMENT} bytes. The key block holds the keys as arranged by the layout, and the
+ * auxiliary block holds the positions of the keys for {@link IndexLayout#EYTZINGER} or the layer offsets
+ * for {@link IndexLayout#BTREE}. It is empty for {@link IndexLayout#SORTED}.
+ * @since 1.0
+ * @author alvarm
+ */
+public class IndexFileWriter {
+
+    /**
+     * Size in bytes of the file header.
+     * @since 1.0
+     */
+    public static final int HEADER_SIZE = 64;
+
+    /**
+     * Alignment in bytes of every block of the file.
+     * @since 1.0
+     */
+    public static final int ALIGNMENT = 64;
+
+    /**
+     * Version of the format written by this class.
+     * @since 1.0
+     */
+    public static final byte VERSION = 1;
+
+    static final byte[] MAGIC = {'J', 'S', 'A', 'I'};
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Write a sorted array to an index file, replacing it if it exists.<br>
+     * The computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being <code>array.length</code>.
+     * @param path The file to write.
+     * @param array A sorted integer array.
+     * @param layout The arrangement of the keys in the file.
+     * @param order The byte order of the numbers in the file.
+     * @throws IOException if the file cannot be written.
+     * @since 1.0
+     */
+    public static void write(Path path, int[] array, IndexLayout layout, ByteOrder order) throws IOException {
+        final int[] keys;
+        final int[] aux;
+        switch (layout) {
+            case EYTZINGER -> {
+                IntEytzingerIndex index = new IntEytzingerIndex(array);
+                keys = index.keys();
+                aux = index.ranks();
+            }
+            case BTREE -> {
+                IntBTreeIndex index = new IntBTreeIndex(array);
+                keys = index.tree();
+                aux = index.offsets();
+            }
+            default -> {
+                keys = array;
+                aux = new int[0];
+            }
+        }
+        try (FileChannel channel = open(path)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(order);
+            final long auxOffset = writeHeader(channel, buffer, Integer.BYTES, layout, array.length,
+                    keys.length, aux.length, (layout == IndexLayout.BTREE) ? IntBTreeIndex.NODE_SIZE : 0);
+            for (int key : keys) {
+                if (!buffer.hasRemaining()) {
+                    flush(channel, buffer);
+                }
+                buffer.putInt(key);
+            }
+            writeAux(channel, buffer, auxOffset, aux);
+        }
+    }
+
+    /**
+     * Write a sorted array to an index file, replacing it if it exists.<br>
+     * The computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being <code>array.length</code>.
+     * @param path The file to write.
+     * @param array A sorted long array.
+     * @param layout The arrangement of the keys in the file.
+     * @param order The byte order of the numbers in the file.
+     * @throws IOException if the file cannot be written.
+     * @since 1.0
+     */
+    public static void write(Path path, long[] array, IndexLayout layout, ByteOrder order) throws IOException {
+        final long[] keys;
+        final int[] aux;
+        switch (layout) {
+            case EYTZINGER -> {
+                LongEytzingerIndex index = new LongEytzingerIndex(array);
+                keys = index.keys();
+                aux = index.ranks();
+            }
+            case BTREE -> {
+                LongBTreeIndex index = new LongBTreeIndex(array);
+                keys = index.tree();
+                aux = index.offsets();
+            }
+            default -> {
+                keys = array;
+                aux = new int[0];
+            }
+        }
+        try (FileChannel channel = open(path)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(order);
+            final long auxOffset = writeHeader(channel, buffer, Long.BYTES, layout, array.length,
+                    keys.length, aux.length, (layout == IndexLayout.BTREE) ? LongBTreeIndex.NODE_SIZE : 0);
+            for (long key : keys) {
+                if (!buffer.hasRemaining()) {
+                    flush(channel, buffer);
+                }
+                buffer.putLong(key);
+            }
+            writeAux(channel, buffer, auxOffset, aux);
+        }
+    }
+
+    static long align(long offset) {
+        return (offset + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Write the header and leave the buffer positioned at the start of the key block.
+     * @return The offset of the auxiliary block.
+     */
+    private static long writeHeader(FileChannel channel, ByteBuffer buffer, int keySize, IndexLayout layout,
+                                    long count, long keys, long aux, int nodeSize) throws IOException {
+        final long keysOffset = HEADER_SIZE;
+        final long auxOffset = align(keysOffset + keys * keySize);
+        buffer.put(MAGIC)
+                .put(VERSION)
+                .put((byte) keySize)
+                .put((byte) (buffer.order() == ByteOrder.BIG_ENDIAN ? 1 : 0))
+                .put((byte) layout.ordinal())
+                .putLong(count)
+                .putLong(keysOffset)
+                .putLong(keys)
+                .putLong(auxOffset)
+                .putLong(aux)
+                .putInt(nodeSize);
+        buffer.position(HEADER_SIZE);
+        return auxOffset;
+    }
+
+    private static void writeAux(FileChannel channel, ByteBuffer buffer, long auxOffset, int[] aux)
+            throws IOException {
+        flush(channel, buffer);
+        channel.position(auxOffset);
+        for (int value : aux) {
+            if (!buffer.hasRemaining()) {
+                flush(channel, buffer);
+            }
+            buffer.putInt(value);
+        }
+        flush(channel, buffer);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
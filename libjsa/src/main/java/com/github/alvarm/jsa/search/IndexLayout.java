@@ -0,0 +1,47 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+/**
+ * Arrangement of the keys stored in an index file.
+ * @since 1.0
+ * @author alvarm
+ * @see IndexFileWriter
+ * @see MappedIndexFile
+ */
+public enum IndexLayout {
+    /**
+     * Keys in ascending order, searched with Binary Search.
+     * @since 1.0
+     */
+    SORTED,
+    /**
+     * Keys in Eytzinger order followed by their positions in the sorted array,
+     * as in {@link IntEytzingerIndex} and {@link LongEytzingerIndex}.
+     * @since 1.0
+     */
+    EYTZINGER,
+    /**
+     * Keys as the nodes of a static B+ tree followed by the offsets of its layers,
+     * as in {@link IntBTreeIndex} and {@link LongBTreeIndex}.
+     * @since 1.0
+     */
+    BTREE
+}
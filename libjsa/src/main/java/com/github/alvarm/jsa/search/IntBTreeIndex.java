@@ -0,0 +1,194 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Static search index that stores a sorted integer array as a B+ tree of {@link #NODE_SIZE} keys per node.<br>
+ * The tree is implicit: all nodes are stored layer by layer in a single array, the leaves first, and the
+ * position of a child is computed from the position of its parent. Every key of an internal node is the
+ * smallest key of the subtree to its right, so the child to follow is given by the number of keys in the
+ * node that are lower than the target. That count is computed with a vector comparison and a population count
+ * through the <code>jdk.incubator.vector</code> API, or with a scalar loop when the module is not present
+ * (see {@link VectorLinearSearch#isVectorized()}).<br>
+ * A node takes 64 bytes, so a search touches one node per level, <code>log<sub>17</sub>(n)</code> in total,
+ * instead of the <code>log<sub>2</sub>(n)</code> scattered positions visited by Binary Search.<br>
+ * The results of {@link #search(int)} are the same as {@link IterativeBinarySearch#search(int[], int)} over the
+ * original array, including the <code>~insertionPoint</code> returned when the target is missing.
+ * When the array contains duplicates, the index of the first occurrence is returned.<br>
+ * The computational cost for a search is <code>O(log<sub>17</sub>(n))</code> node visits with
+ * <i>n</i> being the number of indexed elements.<br>
+ * The memory cost for this index is <code>O(n)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class IntBTreeIndex {
+
+    /**
+     * Number of keys stored in every node.
+     * @since 1.0
+     */
+    public static final int NODE_SIZE = 16;
+
+    private static final int PADDING = Integer.MAX_VALUE;
+
+    private static final boolean VECTOR_ENABLED = VectorLinearSearch.isVectorized();
+
+    private final int size;
+
+    private final int[] tree;
+
+    private final int[] offsets;
+
+    /**
+     * Build an index from a sorted array.<br>
+     * The computational cost for building the index is <code>O(n)</code> with
+     * <i>n</i> being <code>array.length</code>.
+     * @param array A sorted integer array. It is copied, later changes to it are not reflected in the index.
+     * @since 1.0
+     */
+    public IntBTreeIndex(int[] array) {
+        size = array.length;
+        int height = 1;
+        for (int keys = Math.max(size, 1); keys > NODE_SIZE; keys = parentKeys(keys)) {
+            height += 1;
+        }
+        offsets = new int[height + 1];
+        for (int h = 0, keys = Math.max(size, 1); h < height; h++, keys = parentKeys(keys)) {
+            offsets[h + 1] = Math.addExact(offsets[h], nodes(keys) * NODE_SIZE);
+        }
+        tree = new int[offsets[height]];
+        System.arraycopy(array, 0, tree, 0, size);
+        for (int i = size; i < offsets[1]; i++) {
+            tree[i] = PADDING;
+        }
+        for (int h = 1; h < height; h++) {
+            for (int i = 0; i < offsets[h + 1] - offsets[h]; i++) {
+                final long node = i / NODE_SIZE;
+                long child = node * (NODE_SIZE + 1) + (i - node * NODE_SIZE) + 1;
+                for (int l = 1; l < h; l++) {
+                    child *= NODE_SIZE + 1;
+                }
+                final long leaf = child * NODE_SIZE;
+                tree[offsets[h] + i] = (leaf < size) ? tree[(int) leaf] : PADDING;
+            }
+        }
+    }
+
+    private static int nodes(int keys) {
+        return (keys + NODE_SIZE - 1) / NODE_SIZE;
+    }
+
+    private static int parentKeys(int keys) {
+        return (nodes(keys) + NODE_SIZE) / (NODE_SIZE + 1) * NODE_SIZE;
+    }
+
+    /**
+     * Find the first position whose value is not lower than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>17</sub>(n))</code> with
+     * <i>n</i> being {@link #size()}.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param target The target to search for.
+     * @return The first position of the original sorted array whose value is not lower than {@code target},
+     * or {@link #size()} if every value is lower.
+     * @since 1.0
+     */
+    public int lowerBound(int target) {
+        final int[] tree = this.tree;
+        int node = 0;
+        for (int h = offsets.length - 2; h > 0; h--) {
+            node = node * (NODE_SIZE + 1) + rank(tree, offsets[h] + node * NODE_SIZE, target);
+        }
+        return Math.min(node * NODE_SIZE + rank(tree, node * NODE_SIZE, target), size);
+    }
+
+    /**
+     * Search a number into the index.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>17</sub>(n))</code> with
+     * <i>n</i> being {@link #size()}.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in the index.<br>
+     * Otherwise, returns the position of its first occurrence in the original sorted array.
+     * @since 1.0
+     */
+    public int search(int target) {
+        final int position = lowerBound(target);
+        return (position < size && tree[position] == target) ? position : ~position;
+    }
+
+    /**
+     * Number of elements stored in the index.
+     * @return The length of the array the index was built from.
+     * @since 1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Nodes of every layer, leaves first.
+     */
+    int[] tree() {
+        return tree;
+    }
+
+    /**
+     * Position in {@link #tree()} where every layer starts, followed by the length of the tree.
+     */
+    int[] offsets() {
+        return offsets;
+    }
+
+    private static int rank(int[] tree, int from, int target) {
+        if (VECTOR_ENABLED) {
+            return Simd.rank(tree, from, target);
+        }
+        int count = 0;
+        for (int i = from; i < from + NODE_SIZE; i++) {
+            count += (tree[i] < target) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Vector API implementation of the node search.<br>
+     * This class is only loaded when the incubator module is present,
+     * so {@link IntBTreeIndex} can be used without it.
+     */
+    private static class Simd {
+        private static final VectorSpecies<Integer> SPECIES = (IntVector.SPECIES_PREFERRED.length() <= NODE_SIZE)
+                ? IntVector.SPECIES_PREFERRED
+                : IntVector.SPECIES_512;
+
+        private static int rank(int[] tree, int from, int target) {
+            int count = 0;
+            for (int i = 0; i < NODE_SIZE; i += SPECIES.length()) {
+                count += IntVector.fromArray(SPECIES, tree, from + i)
+                        .compare(VectorOperators.LT, target)
+                        .trueCount();
+            }
+            return count;
+        }
+    }
+}
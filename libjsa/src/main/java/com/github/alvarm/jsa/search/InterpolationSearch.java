@@ -0,0 +1,450 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.Utils;
+
+/**
+ * Class that implements the Interpolation Search algorithm.<br>
+ * This algorithm assumes that the array is sorted.<br>
+ * Instead of probing the middle of the range, the algorithm estimates the position of the target
+ * assuming that the values grow linearly between both ends of the range. On uniformly distributed
+ * values this takes <code>O(log<sub>2</sub>(log<sub>2</sub>(n)))</code> probes.<br>
+ * On skewed data the estimates can be far from the target, so the number of interpolation probes is
+ * limited to <code>log<sub>2</sub>(n)</code>, after which the remaining range is searched with Binary Search.
+ * This keeps the worst case at <code>O(log<sub>2</sub>(n))</code> instead of <code>O(n)</code>.<br>
+ * The interpolation-sequential variant does a single interpolation over the whole array and then walks
+ * sequentially towards the target. The walk is limited to {@link #SEQUENTIAL_LIMIT} elements, after which
+ * the remaining range is searched with Binary Search.<br>
+ * The results follow the same contract as {@link IterativeBinarySearch}.<br>
+ * The memory cost for this implementation is <code>O(1)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class InterpolationSearch {
+
+    /**
+     * Maximum number of elements visited sequentially by the interpolation-sequential variant
+     * before switching to Binary Search.
+     * @since 1.0
+     */
+    public static final int SEQUENTIAL_LIMIT = 64;
+
+    /**
+     * Search a number into a sorted array using the Interpolation Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(log<sub>2</sub>(n)))</code> on
+     * uniformly distributed values and <code>O(log<sub>2</sub>(n))</code> in the worst case, with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted integer array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int search(int[] array, int target) {
+        int low = 0;
+        int high = array.length - 1;
+        int probes = 32 - Integer.numberOfLeadingZeros(array.length);
+        while (low <= high) {
+            final int lowVal = array[low];
+            final int highVal = array[high];
+            if (target < lowVal) {
+                return ~low;
+            }
+            if (target > highVal) {
+                return ~(high + 1);
+            }
+            if (lowVal == highVal) {
+                return low;
+            }
+            if (probes == 0) {
+                final int position = lowerBound(array, target, low, high + 1);
+                return (array[position] == target) ? position : ~position;
+            }
+            probes -= 1;
+            final int middle = low + interpolate(target, lowVal, highVal, high - low);
+            final int midVal = array[middle];
+            if (target < midVal) {
+                high = middle - 1;
+            } else if (target > midVal) {
+                low = middle + 1;
+            } else {
+                return middle;
+            }
+        }
+        return ~low;
+    }
+
+    /**
+     * Search a number into a sorted array using the Interpolation-Sequential Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(1)</code> on
+     * uniformly distributed values and <code>O(log<sub>2</sub>(n))</code> in the worst case, with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted integer array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int searchSequential(int[] array, int target) {
+        final int n = array.length;
+        if (n == 0 || target < array[0]) {
+            return ~0;
+        }
+        if (target > array[n - 1]) {
+            return ~n;
+        }
+        if (array[0] == array[n - 1]) {
+            return 0;
+        }
+        int i = interpolate(target, array[0], array[n - 1], n - 1);
+        if (array[i] < target) {
+            final int end = (n - i > SEQUENTIAL_LIMIT) ? i + SEQUENTIAL_LIMIT : n;
+            i += 1;
+            while (i < end && array[i] < target) {
+                i += 1;
+            }
+            if (i == end && end < n) {
+                i = lowerBound(array, target, end, n);
+            }
+        } else if (array[i] > target) {
+            final int end = (i > SEQUENTIAL_LIMIT) ? i - SEQUENTIAL_LIMIT : 0;
+            i -= 1;
+            while (i >= end && array[i] > target) {
+                i -= 1;
+            }
+            if (i < end && end > 0) {
+                i = lowerBound(array, target, 0, end);
+            } else if (i < 0 || array[i] != target) {
+                i += 1;
+            }
+        }
+        return (i < n && array[i] == target) ? i : ~i;
+    }
+
+    /**
+     * Search a number into a sorted array using the Interpolation Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(log<sub>2</sub>(n)))</code> on
+     * uniformly distributed values and <code>O(log<sub>2</sub>(n))</code> in the worst case, with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted long array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int search(long[] array, long target) {
+        int low = 0;
+        int high = array.length - 1;
+        int probes = 32 - Integer.numberOfLeadingZeros(array.length);
+        while (low <= high) {
+            final long lowVal = array[low];
+            final long highVal = array[high];
+            if (target < lowVal) {
+                return ~low;
+            }
+            if (target > highVal) {
+                return ~(high + 1);
+            }
+            if (lowVal == highVal) {
+                return low;
+            }
+            if (probes == 0) {
+                final int position = lowerBound(array, target, low, high + 1);
+                return (array[position] == target) ? position : ~position;
+            }
+            probes -= 1;
+            final int middle = low + interpolate(target, lowVal, highVal, high - low);
+            final long midVal = array[middle];
+            if (target < midVal) {
+                high = middle - 1;
+            } else if (target > midVal) {
+                low = middle + 1;
+            } else {
+                return middle;
+            }
+        }
+        return ~low;
+    }
+
+    /**
+     * Search a number into a sorted array using the Interpolation-Sequential Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(1)</code> on
+     * uniformly distributed values and <code>O(log<sub>2</sub>(n))</code> in the worst case, with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted long array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int searchSequential(long[] array, long target) {
+        final int n = array.length;
+        if (n == 0 || target < array[0]) {
+            return ~0;
+        }
+        if (target > array[n - 1]) {
+            return ~n;
+        }
+        if (array[0] == array[n - 1]) {
+            return 0;
+        }
+        int i = interpolate(target, array[0], array[n - 1], n - 1);
+        if (array[i] < target) {
+            final int end = (n - i > SEQUENTIAL_LIMIT) ? i + SEQUENTIAL_LIMIT : n;
+            i += 1;
+            while (i < end && array[i] < target) {
+                i += 1;
+            }
+            if (i == end && end < n) {
+                i = lowerBound(array, target, end, n);
+            }
+        } else if (array[i] > target) {
+            final int end = (i > SEQUENTIAL_LIMIT) ? i - SEQUENTIAL_LIMIT : 0;
+            i -= 1;
+            while (i >= end && array[i] > target) {
+                i -= 1;
+            }
+            if (i < end && end > 0) {
+                i = lowerBound(array, target, 0, end);
+            } else if (i < 0 || array[i] != target) {
+                i += 1;
+            }
+        }
+        return (i < n && array[i] == target) ? i : ~i;
+    }
+
+    /**
+     * Search a number into a sorted array using the Interpolation Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(log<sub>2</sub>(n)))</code> on
+     * uniformly distributed values and <code>O(log<sub>2</sub>(n))</code> in the worst case, with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted double array.
+     * @param target The target to search for.
+     * @param epsilon The precision threshold to admit if two numbers are equal.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int search(double[] array, double target, double epsilon) {
+        int low = 0;
+        int high = array.length - 1;
+        int probes = 32 - Integer.numberOfLeadingZeros(array.length);
+        while (low <= high) {
+            final double lowVal = array[low];
+            final double highVal = array[high];
+            if (target < lowVal) {
+                return closest(array, target, epsilon, low);
+            }
+            if (target > highVal) {
+                return closest(array, target, epsilon, high + 1);
+            }
+            if (probes == 0 || lowVal == highVal) {
+                return closest(array, target, epsilon, lowerBound(array, target, low, high + 1));
+            }
+            probes -= 1;
+            final int middle = low + interpolate(target, lowVal, highVal, high - low);
+            final double midVal = array[middle];
+            if (Math.abs(target - midVal) < epsilon) {
+                return middle;
+            } else if (target < midVal) {
+                high = middle - 1;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return closest(array, target, epsilon, low);
+    }
+
+    /**
+     * Search a number into a sorted array using the Interpolation Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(log<sub>2</sub>(n)))</code> on
+     * uniformly distributed values and <code>O(log<sub>2</sub>(n))</code> in the worst case, with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted double array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int search(double[] array, double target) {
+        return search(array, target, Utils.getDoubleEpsilon());
+    }
+
+    /**
+     * Search a number into a sorted array using the Interpolation-Sequential Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(1)</code> on
+     * uniformly distributed values and <code>O(log<sub>2</sub>(n))</code> in the worst case, with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted double array.
+     * @param target The target to search for.
+     * @param epsilon The precision threshold to admit if two numbers are equal.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int searchSequential(double[] array, double target, double epsilon) {
+        final int n = array.length;
+        if (n == 0 || target < array[0]) {
+            return closest(array, target, epsilon, 0);
+        }
+        if (target > array[n - 1]) {
+            return closest(array, target, epsilon, n);
+        }
+        if (array[0] == array[n - 1]) {
+            return closest(array, target, epsilon, lowerBound(array, target, 0, n));
+        }
+        int i = interpolate(target, array[0], array[n - 1], n - 1);
+        if (array[i] < target) {
+            final int end = (n - i > SEQUENTIAL_LIMIT) ? i + SEQUENTIAL_LIMIT : n;
+            i += 1;
+            while (i < end && array[i] < target) {
+                i += 1;
+            }
+            if (i == end && end < n) {
+                i = lowerBound(array, target, end, n);
+            }
+        } else {
+            final int end = (i > SEQUENTIAL_LIMIT) ? i - SEQUENTIAL_LIMIT : 0;
+            i -= 1;
+            while (i >= end && !(array[i] < target)) {
+                i -= 1;
+            }
+            i = (i < end && end > 0) ? lowerBound(array, target, 0, end) : i + 1;
+        }
+        return closest(array, target, epsilon, i);
+    }
+
+    /**
+     * Search a number into a sorted array using the Interpolation-Sequential Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(1)</code> on
+     * uniformly distributed values and <code>O(log<sub>2</sub>(n))</code> in the worst case, with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted double array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int searchSequential(double[] array, double target) {
+        return searchSequential(array, target, Utils.getDoubleEpsilon());
+    }
+
+    /**
+     * Find the first position in a range whose value is not lower than the target.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @param low The (inclusive) starting position for searching.
+     * @param high The (exclusive) ending position for searching.
+     * @return The first position whose value is not lower than {@code target}, or {@code high}.
+     */
+    private static int lowerBound(int[] array, int target, int low, int high) {
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (array[middle] < target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Find the first position in a range whose value is not lower than the target.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @param low The (inclusive) starting position for searching.
+     * @param high The (exclusive) ending position for searching.
+     * @return The first position whose value is not lower than {@code target}, or {@code high}.
+     */
+    private static int lowerBound(long[] array, long target, int low, int high) {
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (array[middle] < target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Find the first position in a range whose value is not lower than the target.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @param low The (inclusive) starting position for searching.
+     * @param high The (exclusive) ending position for searching.
+     * @return The first position whose value is not lower than {@code target}, or {@code high}.
+     */
+    private static int lowerBound(double[] array, double target, int low, int high) {
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (array[middle] < target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Estimate the offset of the target inside a range assuming its values grow linearly.<br>
+     * The estimate is computed in floating point so differences between extreme values cannot overflow,
+     * and it is clamped to the range in case rounding produced a division by zero.
+     * @param target The target to search for, between {@code lowVal} and {@code highVal}.
+     * @param lowVal The value at the start of the range.
+     * @param highVal The value at the end of the range.
+     * @param span The distance between the start and the end of the range.
+     * @return An offset between <i>0</i> and {@code span}.
+     */
+    private static int interpolate(double target, double lowVal, double highVal, int span) {
+        final int offset = (int) ((target - lowVal) / (highVal - lowVal) * span);
+        return Math.max(0, Math.min(offset, span));
+    }
+
+    /**
+     * Check the elements around an insertion point against a target using a precision threshold.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @param epsilon The precision threshold to admit if two numbers are equal.
+     * @param position The first position whose value is not lower than {@code target}.
+     * @return The position of an element equal to {@code target}, or <code>~position</code>.
+     */
+    private static int closest(double[] array, double target, double epsilon, int position) {
+        if (position < array.length && Math.abs(target - array[position]) < epsilon) {
+            return position;
+        }
+        if (position > 0 && Math.abs(target - array[position - 1]) < epsilon) {
+            return position - 1;
+        }
+        return ~position;
+    }
+}
@@ -22,6 +22,9 @@ package com.github.alvarm.jsa.search;
 import com.github.alvarm.jsa.arrays.Utils;
 
 import java.util.Comparator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Class that implements the Binary Search algorithm using an iterative approach.<br>
@@ -49,8 +52,26 @@ public class IterativeBinarySearch {
      * @since 1.0
      */
     public static int search(int[] array, int target) {
-        int start = 0;
-        int end = array.length - 1;
+        return search(array, 0, array.length, target);
+    }
+
+    /**
+     * Search a number into a range of a sorted array using the Binary Search algorithm.<br>
+     * This is the iterative implementation.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>toIndex - fromIndex</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An integer array, sorted at least between {@code fromIndex} and {@code toIndex}.
+     * @param fromIndex The (inclusive) starting position for searching.
+     * @param toIndex The (exclusive) ending position for searching.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in the range.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int search(int[] array, int fromIndex, int toIndex, int target) {
+        int start = fromIndex;
+        int end = toIndex - 1;
         while(start <= end) {
             int middle = (start + end) >> 1;
             int midVal = array[middle];
@@ -78,8 +99,26 @@ public class IterativeBinarySearch {
      * @since 1.0
      */
     public static int search(long[] array, long target) {
-        int start = 0;
-        int end = array.length - 1;
+        return search(array, 0, array.length, target);
+    }
+
+    /**
+     * Search a number into a range of a sorted array using the Binary Search algorithm.<br>
+     * This is the iterative implementation.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>toIndex - fromIndex</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array, sorted at least between {@code fromIndex} and {@code toIndex}.
+     * @param fromIndex The (inclusive) starting position for searching.
+     * @param toIndex The (exclusive) ending position for searching.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in the range.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int search(long[] array, int fromIndex, int toIndex, long target) {
+        int start = fromIndex;
+        int end = toIndex - 1;
         while(start <= end) {
             int middle = (start + end) >> 1;
             long midVal = array[middle];
@@ -192,6 +231,132 @@ public class IterativeBinarySearch {
         return search(array, target, Utils.getDoubleEpsilon());
     }
 
+    /**
+     * Search a number into a sorted array using the Binary Search algorithm.<br>
+     * Values are compared through {@link Utils#sortableBits(float)}, following the total order of
+     * {@link Float#compare(float, float)}: <code>-0.0f</code> is smaller than <code>0.0f</code> and
+     * NaN is greater than every other value. The array must be sorted in that order,
+     * as {@link java.util.Arrays#sort(float[])} does.<br>
+     * This is the iterative implementation.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int searchTotalOrder(float[] array, float target) {
+        final int key = Utils.sortableBits(target);
+        int start = 0;
+        int end = array.length - 1;
+        while(start <= end) {
+            int middle = (start + end) >>> 1;
+            int midVal = Utils.sortableBits(array[middle]);
+            if (midVal < key) {
+                start = middle + 1;
+            } else if (midVal > key) {
+                end = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return ~start;
+    }
+
+    /**
+     * Search a number into a sorted array using the Binary Search algorithm.<br>
+     * Values are compared through {@link Utils#sortableBits(double)}, following the total order of
+     * {@link Double#compare(double, double)}: <code>-0.0d</code> is smaller than <code>0.0d</code> and
+     * NaN is greater than every other value. The array must be sorted in that order,
+     * as {@link java.util.Arrays#sort(double[])} does.<br>
+     * This is the iterative implementation.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int searchTotalOrder(double[] array, double target) {
+        final long key = Utils.sortableBits(target);
+        int start = 0;
+        int end = array.length - 1;
+        while(start <= end) {
+            int middle = (start + end) >>> 1;
+            long midVal = Utils.sortableBits(array[middle]);
+            if (midVal < key) {
+                start = middle + 1;
+            } else if (midVal > key) {
+                end = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return ~start;
+    }
+
+    /**
+     * Search the value closest to a target inside a sorted array, accepting it only if it lies within a tolerance.<br>
+     * The position is located with {@link #searchTotalOrder(float[], float)} and only the two neighbours of the
+     * insertion point are compared against <code>tolerance</code>, so the hot loop does no floating point work.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @param tolerance The maximum distance between <code>target</code> and the returned value.
+     * @return A negative value, <code>~insertionPoint</code>, if no value of {@code array} is within {@code tolerance}
+     * of {@code target}.<br>
+     * Otherwise, returns the position of the closest value.
+     * @since 1.0
+     */
+    public static int searchWithin(float[] array, float target, float tolerance) {
+        int pos = searchTotalOrder(array, target);
+        if (pos >= 0) {
+            return pos;
+        }
+        int insertion = ~pos;
+        float after = (insertion < array.length) ? Math.abs(array[insertion] - target) : Float.POSITIVE_INFINITY;
+        float before = (insertion > 0) ? Math.abs(target - array[insertion - 1]) : Float.POSITIVE_INFINITY;
+        if (before <= after) {
+            return (before <= tolerance) ? insertion - 1 : pos;
+        }
+        return (after <= tolerance) ? insertion : pos;
+    }
+
+    /**
+     * Search the value closest to a target inside a sorted array, accepting it only if it lies within a tolerance.<br>
+     * The position is located with {@link #searchTotalOrder(double[], double)} and only the two neighbours of the
+     * insertion point are compared against <code>tolerance</code>, so the hot loop does no floating point work.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @param tolerance The maximum distance between <code>target</code> and the returned value.
+     * @return A negative value, <code>~insertionPoint</code>, if no value of {@code array} is within {@code tolerance}
+     * of {@code target}.<br>
+     * Otherwise, returns the position of the closest value.
+     * @since 1.0
+     */
+    public static int searchWithin(double[] array, double target, double tolerance) {
+        int pos = searchTotalOrder(array, target);
+        if (pos >= 0) {
+            return pos;
+        }
+        int insertion = ~pos;
+        double after = (insertion < array.length) ? Math.abs(array[insertion] - target) : Double.POSITIVE_INFINITY;
+        double before = (insertion > 0) ? Math.abs(target - array[insertion - 1]) : Double.POSITIVE_INFINITY;
+        if (before <= after) {
+            return (before <= tolerance) ? insertion - 1 : pos;
+        }
+        return (after <= tolerance) ? insertion : pos;
+    }
+
     /**
      * Search an element into a sorted array using the Binary Search algorithm.<br>
      * This is the iterative implementation.<br>
@@ -254,4 +419,128 @@ public class IterativeBinarySearch {
         }
         return ~start;
     }
+
+    /**
+     * Search an element into a sorted array by a integer key using the Binary Search algorithm.<br>
+     * This is the iterative implementation.<br>
+     * The keys are compared as primitives, so there is no need to build a target element
+     * nor to box the keys.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array An array sorted by {@code key}.
+     * @param key The function that extracts the key of an element.
+     * @param target The key to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if no element has {@code target} as key.<br>
+     * Otherwise, returns the position of an element with that key.
+     * @since 1.0
+     */
+    public static <E> int searchByIntKey(E[] array, ToIntFunction<? super E> key, int target) {
+        int start = 0;
+        int end = array.length - 1;
+        while(start <= end) {
+            int middle = (start + end) >> 1;
+            int midVal = key.applyAsInt(array[middle]);
+            if(target < midVal) {
+                end = middle - 1;
+            } else if (target > midVal) {
+                start = middle + 1;
+            } else {
+                return middle;
+            }
+        }
+        return ~start;
+    }
+
+    /**
+     * Search an element into a sorted array by a long key using the Binary Search algorithm.<br>
+     * This is the iterative implementation.<br>
+     * The keys are compared as primitives, so there is no need to build a target element
+     * nor to box the keys.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array An array sorted by {@code key}.
+     * @param key The function that extracts the key of an element.
+     * @param target The key to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if no element has {@code target} as key.<br>
+     * Otherwise, returns the position of an element with that key.
+     * @since 1.0
+     */
+    public static <E> int searchByLongKey(E[] array, ToLongFunction<? super E> key, long target) {
+        int start = 0;
+        int end = array.length - 1;
+        while(start <= end) {
+            int middle = (start + end) >> 1;
+            long midVal = key.applyAsLong(array[middle]);
+            if(target < midVal) {
+                end = middle - 1;
+            } else if (target > midVal) {
+                start = middle + 1;
+            } else {
+                return middle;
+            }
+        }
+        return ~start;
+    }
+
+    /**
+     * Search an element into a sorted array by a double key using the Binary Search algorithm.<br>
+     * This is the iterative implementation.<br>
+     * The keys are compared as primitives, so there is no need to build a target element
+     * nor to box the keys.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array An array sorted by {@code key}.
+     * @param key The function that extracts the key of an element.
+     * @param target The key to search for.
+     * @param epsilon The precision threshold to admit if two numbers are equal.
+     * @return A negative value, <code>~insertionPoint</code>, if no element has {@code target} as key.<br>
+     * Otherwise, returns the position of an element with that key.
+     * @since 1.0
+     */
+    public static <E> int searchByDoubleKey(E[] array, ToDoubleFunction<? super E> key, double target,
+                                            double epsilon) {
+        int start = 0;
+        int end = array.length - 1;
+        while(start <= end) {
+            int middle = (start + end) >> 1;
+            double midVal = key.applyAsDouble(array[middle]);
+            boolean isEquals = Math.abs(target - midVal) < epsilon;
+            if(!isEquals) {
+                if(target < midVal) {
+                    end = middle - 1;
+                } else {
+                    start = middle + 1;
+                }
+            } else {
+                return middle;
+            }
+        }
+        return ~start;
+    }
+
+    /**
+     * Search an element into a sorted array by a double key using the Binary Search algorithm.<br>
+     * This is the iterative implementation.<br>
+     * The keys are compared as primitives, so there is no need to build a target element
+     * nor to box the keys.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array An array sorted by {@code key}.
+     * @param key The function that extracts the key of an element.
+     * @param target The key to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if no element has {@code target} as key.<br>
+     * Otherwise, returns the position of an element with that key.
+     * @since 1.0
+     */
+    public static <E> int searchByDoubleKey(E[] array, ToDoubleFunction<? super E> key, double target) {
+        return searchByDoubleKey(array, key, target, Utils.getDoubleEpsilon());
+    }
 }
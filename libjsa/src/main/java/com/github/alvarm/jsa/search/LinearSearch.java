@@ -130,6 +130,50 @@ public class LinearSearch {
         return search(array, target, Utils.getDoubleEpsilon());
     }
 
+    /**
+     * Search sequentially for a target inside an array comparing the bit patterns of the values.<br>
+     * Two values are equal when {@link Float#compare(float, float)} says so, so <code>-0.0f</code>
+     * and <code>0.0f</code> are different values and NaN can be found.<br>
+     * Computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * Memory cost for this method is <code>O(1)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int searchTotalOrder(float[] array, float target) {
+        final int key = Float.floatToIntBits(target);
+        int i = 0;
+        while(i < array.length && Float.floatToIntBits(array[i]) != key){
+            i += 1;
+        }
+        return (i >= array.length) ? -1 : i;
+    }
+
+    /**
+     * Search sequentially for a target inside an array comparing the bit patterns of the values.<br>
+     * Two values are equal when {@link Double#compare(double, double)} says so, so <code>-0.0d</code>
+     * and <code>0.0d</code> are different values and NaN can be found.<br>
+     * Computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * Memory cost for this method is <code>O(1)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int searchTotalOrder(double[] array, double target) {
+        final long key = Double.doubleToLongBits(target);
+        int i = 0;
+        while(i < array.length && Double.doubleToLongBits(array[i]) != key){
+            i += 1;
+        }
+        return (i >= array.length) ? -1 : i;
+    }
+
     /**
      * Search sequentially for a target inside an array.<br>
      * Computational cost for this method is <code>O(n)</code> with
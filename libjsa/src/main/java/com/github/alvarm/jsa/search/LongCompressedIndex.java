@@ -0,0 +1,278 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Sorted long array compressed in blocks, that can be searched without decompressing it.<br>
+ * The first value of every block is kept uncompressed in a skip index. The other values of the block are stored
+ * as the difference with the previous value, bit-packed with the number of bits of the largest difference of
+ * the block. Sorted lists of ids with small gaps need only a few bits per value instead of 64.<br>
+ * A search runs {@link IterativeBinarySearch} over the skip index to find the only block that may hold the
+ * target, and then decodes that block from its start until it reaches the target, so at most
+ * {@link #BLOCK_SIZE} values are decoded.<br>
+ * The results are positions in the original array, with the same meaning as
+ * {@link IterativeBinarySearch#search(long[], long)}.<br>
+ * The computational cost for a search is <code>O(log<sub>2</sub>(n / B) + B)</code> with
+ * <i>n</i> being the number of values and <i>B</i> being {@link #BLOCK_SIZE}.<br>
+ * The memory cost for this index is <code>O(n * w)</code> bits with <i>w</i> being the average bit width of the
+ * differences, plus about 17 bytes per block.
+ * @since 1.0
+ * @author alvarm
+ */
+public class LongCompressedIndex {
+
+    /**
+     * Number of values of every block. Only the last block may be shorter.
+     * @since 1.0
+     */
+    public static final int BLOCK_SIZE = 128;
+
+    private static final int BLOCK_SHIFT = 7;
+
+    private final int size;
+
+    /**
+     * First value of every block, the skip index.
+     */
+    private final long[] firstKeys;
+
+    /**
+     * Position of the first packed bit of every block in {@link #words}.
+     */
+    private final long[] bitOffsets;
+
+    /**
+     * Number of bits of every packed difference of every block.
+     */
+    private final byte[] bitWidths;
+
+    /**
+     * Packed differences, with one extra word so that a value can always be read with two words.
+     */
+    private final long[] words;
+
+    /**
+     * Build a compressed index from a sorted array.<br>
+     * The computational cost for building the index is <code>O(n)</code> with
+     * <i>n</i> being <code>array.length</code>.
+     * @param array A sorted array. It is not referenced by the index.
+     * @since 1.0
+     */
+    public LongCompressedIndex(long[] array) {
+        size = array.length;
+        final int blocks = (size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        firstKeys = new long[blocks];
+        bitOffsets = new long[blocks];
+        bitWidths = new byte[blocks];
+        long bits = 0L;
+        for (int block = 0; block < blocks; block++) {
+            final int from = block << BLOCK_SHIFT;
+            final int to = Math.min(from + BLOCK_SIZE, size);
+            long union = 0;
+            for (int i = from + 1; i < to; i++) {
+                union |= array[i] - array[i - 1];
+            }
+            firstKeys[block] = array[from];
+            bitOffsets[block] = bits;
+            bitWidths[block] = (byte) (Long.SIZE - Long.numberOfLeadingZeros(union));
+            bits += (long) bitWidths[block] * (to - from - 1);
+        }
+        words = new long[Math.toIntExact((bits + Long.SIZE - 1) / Long.SIZE + 1)];
+        for (int block = 0; block < blocks; block++) {
+            final int from = block << BLOCK_SHIFT;
+            final int to = Math.min(from + BLOCK_SIZE, size);
+            final int width = bitWidths[block];
+            long position = bitOffsets[block];
+            for (int i = from + 1; i < to; i++) {
+                write(position, width, array[i] - array[i - 1]);
+                position += width;
+            }
+        }
+    }
+
+    private void write(long position, int width, long value) {
+        if (width == 0) {
+            return;
+        }
+        final int word = (int) (position >>> 6);
+        final int shift = (int) position & (Long.SIZE - 1);
+        words[word] |= value << shift;
+        if (shift + width > Long.SIZE) {
+            words[word + 1] |= value >>> (Long.SIZE - shift);
+        }
+    }
+
+    private long read(long position, int width, long mask) {
+        final int word = (int) (position >>> 6);
+        final int shift = (int) position & (Long.SIZE - 1);
+        long bits = words[word] >>> shift;
+        if (shift + width > Long.SIZE) {
+            bits |= words[word + 1] << (Long.SIZE - shift);
+        }
+        return bits & mask;
+    }
+
+    private static long mask(int width) {
+        return (width == Long.SIZE) ? -1L : (1L << width) - 1L;
+    }
+
+    /**
+     * Search a number into the index.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n / B) + B)</code> with
+     * <i>n</i> being the number of values and <i>B</i> being {@link #BLOCK_SIZE}.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present.<br>
+     * Otherwise, returns its position in the original array.
+     * @since 1.0
+     */
+    public int search(long target) {
+        int block = IterativeBinarySearch.search(firstKeys, target);
+        if (block >= 0) {
+            return block << BLOCK_SHIFT;
+        }
+        block = ~block - 1;
+        if (block < 0) {
+            return ~0;
+        }
+        final int from = block << BLOCK_SHIFT;
+        final int to = Math.min(from + BLOCK_SIZE, size);
+        final int width = bitWidths[block];
+        final long mask = mask(width);
+        long position = bitOffsets[block];
+        long value = firstKeys[block];
+        for (int i = from + 1; i < to; i++) {
+            value += read(position, width, mask);
+            position += width;
+            if (value >= target) {
+                return (value == target) ? i : ~i;
+            }
+        }
+        return ~to;
+    }
+
+    /**
+     * Get the value at a position of the original array.<br>
+     * The computational cost for this method is <code>O(B)</code> with <i>B</i> being {@link #BLOCK_SIZE}.
+     * @param index A position between <i>0</i> and {@link #size()}, exclusive.
+     * @return The value at position {@code index}.
+     * @throws IndexOutOfBoundsException If {@code index} is out of range.
+     * @since 1.0
+     */
+    public long get(int index) {
+        Objects.checkIndex(index, size);
+        final int block = index >>> BLOCK_SHIFT;
+        final int width = bitWidths[block];
+        final long mask = mask(width);
+        long position = bitOffsets[block];
+        long value = firstKeys[block];
+        for (int i = (block << BLOCK_SHIFT) + 1; i <= index; i++) {
+            value += read(position, width, mask);
+            position += width;
+        }
+        return value;
+    }
+
+    /**
+     * Decode one whole block into an array.<br>
+     * The packed differences are read in order with a single word buffer, so every value costs a shift, a mask
+     * and an addition instead of the random access made by {@link #get(int)}.<br>
+     * The computational cost for this method is <code>O(B)</code> with <i>B</i> being {@link #BLOCK_SIZE}.
+     * @param block The block to decode, between <i>0</i> and {@link #blocks()}, exclusive.
+     * @param out The array where the values are written.
+     * @param outFrom The position of {@code out} where the first value of the block is written.
+     * @return The number of values written, {@link #BLOCK_SIZE} for every block but maybe the last one.
+     * @throws IndexOutOfBoundsException If {@code block} is out of range or {@code out} is too short.
+     * @since 1.0
+     */
+    public int decodeBlock(int block, long[] out, int outFrom) {
+        Objects.checkIndex(block, firstKeys.length);
+        final int from = block << BLOCK_SHIFT;
+        final int count = Math.min(BLOCK_SIZE, size - from);
+        Objects.checkFromIndexSize(outFrom, count, out.length);
+        long value = firstKeys[block];
+        out[outFrom] = value;
+        final int width = bitWidths[block];
+        if (width == 0) {
+            Arrays.fill(out, outFrom + 1, outFrom + count, value);
+            return count;
+        }
+        final long mask = mask(width);
+        final long position = bitOffsets[block];
+        int word = (int) (position >>> 6);
+        int shift = (int) position & (Long.SIZE - 1);
+        long current = words[word];
+        for (int i = 1; i < count; i++) {
+            long bits = current >>> shift;
+            shift += width;
+            if (shift >= Long.SIZE) {
+                shift -= Long.SIZE;
+                current = words[++word];
+                if (shift > 0) {
+                    bits |= current << (width - shift);
+                }
+            }
+            value += (bits & mask);
+            out[outFrom + i] = value;
+        }
+        return count;
+    }
+
+    /**
+     * Decode every value of the index.
+     * @return A new array equal to the original array.
+     * @since 1.0
+     */
+    public long[] toArray() {
+        final long[] array = new long[size];
+        for (int block = 0; block < firstKeys.length; block++) {
+            decodeBlock(block, array, block << BLOCK_SHIFT);
+        }
+        return array;
+    }
+
+    /**
+     * @return The number of values of the index.
+     * @since 1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of blocks of the index.
+     * @since 1.0
+     */
+    public int blocks() {
+        return firstKeys.length;
+    }
+
+    /**
+     * Approximate memory used by the index.
+     * @return The size in bytes of the skip index, the block offsets and widths and the packed differences.
+     * @since 1.0
+     */
+    public long memoryFootprint() {
+        return (long) firstKeys.length * (Long.BYTES + Long.BYTES + Byte.BYTES) + (long) words.length * Long.BYTES;
+    }
+}
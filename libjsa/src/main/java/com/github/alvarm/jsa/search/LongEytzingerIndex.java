@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+/**
+ * Static search index that stores a sorted long array in Eytzinger (BFS) order.<br>
+ * The element at position <i>k</i> has its children at positions <i>2k</i> and <i>2k + 1</i>,
+ * so the first levels of the implicit tree share a handful of cache lines and every
+ * descent step reads memory whose address only depends on the previous comparison.<br>
+ * The descent does not exit early on equality, it always runs <code>log<sub>2</sub>(n)</code>
+ * iterations and the branch on the comparison is written so it can be compiled to a conditional move.<br>
+ * The results are the same as {@link IterativeBinarySearch#search(long[], long)} over the
+ * original array, including the <code>~insertionPoint</code> returned when the target is missing.
+ * When the array contains duplicates, the index of the first occurrence is returned.<br>
+ * The computational cost for a search is <code>O(log<sub>2</sub>(n))</code> with
+ * <i>n</i> being the number of indexed elements.<br>
+ * The memory cost for this index is <code>O(n)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class LongEytzingerIndex {
+
+    private final long[] keys;
+
+    private final int[] ranks;
+
+    /**
+     * Build an index from a sorted array.<br>
+     * The computational cost for building the index is <code>O(n)</code> with
+     * <i>n</i> being <code>array.length</code>.
+     * @param array A sorted long array. It is copied, later changes to it are not reflected in the index.
+     * @since 1.0
+     */
+    public LongEytzingerIndex(long[] array) {
+        keys = new long[array.length + 1];
+        ranks = new int[array.length + 1];
+        build(array, 0, 1);
+    }
+
+    private int build(long[] array, int i, int k) {
+        if (k < keys.length) {
+            i = build(array, i, k << 1);
+            keys[k] = array[i];
+            ranks[k] = i;
+            i = build(array, i + 1, (k << 1) + 1);
+        }
+        return i;
+    }
+
+    /**
+     * Search a number into the index.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being {@link #size()}.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in the index.<br>
+     * Otherwise, returns its position in the original sorted array.
+     * @since 1.0
+     */
+    public int search(long target) {
+        final long[] keys = this.keys;
+        final int n = keys.length;
+        int k = 1;
+        while (k < n) {
+            k = (k << 1) + (keys[k] < target ? 1 : 0);
+        }
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        if (k == 0) {
+            return ~(n - 1);
+        }
+        return keys[k] == target ? ranks[k] : ~ranks[k];
+    }
+
+    /**
+     * Number of elements stored in the index.
+     * @return The length of the array the index was built from.
+     * @since 1.0
+     */
+    public int size() {
+        return keys.length - 1;
+    }
+
+    /**
+     * Keys in Eytzinger order, position <i>0</i> is unused.
+     */
+    long[] keys() {
+        return keys;
+    }
+
+    /**
+     * Position in the original sorted array of every key.
+     */
+    int[] ranks() {
+        return ranks;
+    }
+}
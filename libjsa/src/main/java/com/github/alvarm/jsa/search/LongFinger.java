@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+/**
+ * Cursor that searches a sorted long array starting from the position of its previous search.<br>
+ * When consecutive targets are close to each other, their positions in the array are close too. The cursor
+ * gallops from its last position, probing positions at distance 1, 2, 4... until it steps over the target,
+ * and then runs a Binary Search inside the last gap, so a search costs <code>O(log<sub>2</sub>(d))</code> with
+ * <i>d</i> being the distance between the previous answer and the new one.
+ * After eight probes without stepping over the target it falls back to a
+ * Binary Search over the rest of the array, so a far jump costs at most that many probes more than
+ * {@link IterativeBinarySearch}.<br>
+ * When the target is present several times, the position of its first occurrence is returned.<br>
+ * Searches do not allocate. A cursor is not thread safe, but any number of cursors can share the same array,
+ * so each thread can keep its own.<br>
+ * The memory cost for a cursor is <code>O(1)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class LongFinger {
+
+    private final long[] array;
+
+    private int position;
+
+    /**
+     * Create a cursor at the first position of an array.
+     * @param array A sorted array. It is not copied, it must not be changed while the cursor is used.
+     * @since 1.0
+     */
+    public LongFinger(long[] array) {
+        this.array = array;
+    }
+
+    /**
+     * Search a value into the array, galloping from the position of the previous search.<br>
+     * The cursor is left at the first position whose value is not lower than {@code target}.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(d))</code> with
+     * <i>d</i> being the distance between the previous position and the position of the target.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in the array.<br>
+     * Otherwise, returns the position of its first occurrence in the array.
+     * @since 1.0
+     */
+    public int search(long target) {
+        final long[] array = this.array;
+        final int n = array.length;
+        final int low = ExponentialSearch.lowerBound(array, target, position, ExponentialSearch.GALLOP_LIMIT);
+        position = low;
+        return (low < n && array[low] == target) ? low : ~low;
+    }
+
+    /**
+     * @return The position where the next search starts.
+     * @since 1.0
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Move the cursor, for example to the expected position of the next cluster of targets.
+     * @param position The position where the next search starts. Values outside the array are clamped to its bounds.
+     * @since 1.0
+     */
+    public void moveTo(int position) {
+        this.position = Math.max(0, Math.min(position, array.length));
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+/**
+ * Search index over a sorted long array that can be replaced while other threads search it.<br>
+ * The array and its version are kept in an immutable snapshot published through a volatile field.
+ * A search reads the field once and runs {@link IterativeBinarySearch} over that snapshot without taking
+ * any lock, so readers never block each other or wait for writers. A writer builds the next sorted array in its
+ * own thread and publishes it with a single write; searches that already started finish on the old snapshot,
+ * and the old array is collected when no search uses it anymore. Writers are serialized between them.<br>
+ * A reader that needs to resolve the returned positions pins one snapshot with {@link #current()} and searches
+ * and reads that snapshot, which never changes even if another array is published meanwhile.<br>
+ * Every search is counted in a per thread counter whose cells do not share cache lines, so counting does not
+ * add contention between readers.<br>
+ * The computational cost for a search is <code>O(log<sub>2</sub>(n))</code> with
+ * <i>n</i> being the length of the current array.<br>
+ * The memory cost for this index is <code>O(1)</code> besides the arrays, which are not copied.
+ * @since 1.0
+ * @author alvarm
+ */
+public class LongSnapshotIndex {
+
+    private volatile Snapshot snapshot;
+
+    private final Object writeLock = new Object();
+
+    private final ThreadCounter reads = new ThreadCounter();
+
+    /**
+     * Create an index over a sorted array, with version <i>0</i>.
+     * @param array A sorted array. It is not copied, it must not be changed after this call.
+     * @since 1.0
+     */
+    public LongSnapshotIndex(long[] array) {
+        this.snapshot = new Snapshot(array, 0L, reads);
+    }
+
+    /**
+     * Get the snapshot searched right now, so that positions can be resolved against its array.
+     * @return The current snapshot. It is not affected by later publications.
+     * @since 1.0
+     */
+    public Snapshot current() {
+        return snapshot;
+    }
+
+    /**
+     * Search a number into the current array using the Binary Search algorithm, without locking.<br>
+     * The position refers to the array that was current during the search; use {@link #current()} and
+     * {@link Snapshot#search(long)} to know which array it is.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in the array.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public int search(long target) {
+        return snapshot.search(target);
+    }
+
+    /**
+     * Check if a number is in the current array, without locking.
+     * @param target The target to search for.
+     * @return <code>true</code> if {@code target} is present.
+     * @since 1.0
+     */
+    public boolean contains(long target) {
+        return search(target) >= 0;
+    }
+
+    /**
+     * Search every target into the same snapshot, even if another array is published meanwhile.<br>
+     * The targets are searched with {@link BatchBinarySearch} and count as a single read.
+     * Use {@link #current()} and {@link Snapshot#searchAll(long[], int[])} to also keep the searched array.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>.
+     * @return The version of the snapshot that was searched.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public long searchAll(long[] targets, int[] out) {
+        return snapshot.searchAll(targets, out);
+    }
+
+    /**
+     * Replace the array searched by the index.<br>
+     * The array should be fully built before this call, searches see it as soon as this method returns.
+     * @param array A sorted array. It is not copied, it must not be changed after this call.
+     * @return The version of the new snapshot.
+     * @since 1.0
+     */
+    public long publish(long[] array) {
+        synchronized (writeLock) {
+            final Snapshot next = new Snapshot(array, snapshot.version + 1L, reads);
+            snapshot = next;
+            return next.version;
+        }
+    }
+
+    /**
+     * Replace the array searched by the index only if no other array was published since {@code expectedVersion}.
+     * @param expectedVersion The version the new array was built from.
+     * @param array A sorted array. It is not copied, it must not be changed after this call.
+     * @return <code>true</code> if the array was published.
+     * @since 1.0
+     */
+    public boolean compareAndPublish(long expectedVersion, long[] array) {
+        synchronized (writeLock) {
+            final Snapshot current = snapshot;
+            if (current.version != expectedVersion) {
+                return false;
+            }
+            snapshot = new Snapshot(array, expectedVersion + 1L, reads);
+            return true;
+        }
+    }
+
+    /**
+     * @return The version of the current snapshot, increased by one on every publication.
+     * @since 1.0
+     */
+    public long version() {
+        return snapshot.version;
+    }
+
+    /**
+     * @return The length of the current array.
+     * @since 1.0
+     */
+    public int size() {
+        return snapshot.array.length;
+    }
+
+    /**
+     * Get the number of searches made by every thread.<br>
+     * It sums the counter of every thread, so it should not be called on the search path.
+     * @return The number of searches made so far.
+     * @since 1.0
+     */
+    public long readCount() {
+        return reads.sum();
+    }
+
+    /**
+     * @return The number of searches made by the calling thread.
+     * @since 1.0
+     */
+    public long threadReadCount() {
+        return reads.threadValue();
+    }
+
+    /**
+     * Immutable pair of a sorted array and its version.<br>
+     * The positions returned by its searches always refer to {@link #array()}.
+     * @since 1.0
+     */
+    public static final class Snapshot {
+        private final long[] array;
+        private final long version;
+        private final ThreadCounter reads;
+
+        private Snapshot(long[] array, long version, ThreadCounter reads) {
+            this.array = array;
+            this.version = version;
+            this.reads = reads;
+        }
+
+        /**
+         * Search a number into the array of this snapshot using the Binary Search algorithm.
+         * @param target The target to search for.
+         * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in the array.<br>
+         * Otherwise, returns its position in {@link #array()}.
+         * @since 1.0
+         */
+        public int search(long target) {
+            reads.increment();
+            return IterativeBinarySearch.search(array, target);
+        }
+
+        /**
+         * Search every target into the array of this snapshot.<br>
+         * The targets are searched with {@link BatchBinarySearch} and count as a single read.
+         * @param targets The targets to search for.
+         * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>.
+         * @return The version of this snapshot.
+         * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+         * @since 1.0
+         */
+        public long searchAll(long[] targets, int[] out) {
+            reads.increment();
+            BatchBinarySearch.searchAll(array, targets, out);
+            return version;
+        }
+
+        /**
+         * @return The array of this snapshot. It is shared with the index and must not be changed.
+         * @since 1.0
+         */
+        public long[] array() {
+            return array;
+        }
+
+        /**
+         * @return The version of this snapshot.
+         * @since 1.0
+         */
+        public long version() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only view of an index file written by {@link IndexFileWriter}.<br>
+ * The file is mapped in memory and searches read the keys directly from the mapping, so opening an index
+ * costs <code>O(1)</code> regardless of its size, the operating system only loads the pages that searches touch,
+ * and several processes opening the same file share them through the page cache.<br>
+ * The mapping lives as long as the {@link Arena} passed to {@link #open(Path, Arena)}; searching after the arena
+ * is closed throws {@link IllegalStateException}.<br>
+ * The results of {@link #search(long)} follow the same contract as {@link IterativeBinarySearch}.<br>
+ * This class uses the <code>java.lang.foreign</code> API, which is a preview API in Java 21,
+ * so it needs <code>--enable-preview</code> at runtime.
+ * @since 1.0
+ * @author alvarm
+ */
+public class MappedIndexFile {
+
+    private final IndexLayout layout;
+
+    private final ByteOrder order;
+
+    private final int keySize;
+
+    private final long size;
+
+    private final MemorySegment keys;
+
+    private final long keyCount;
+
+    private final MemorySegment aux;
+
+    private final int[] layerOffsets;
+
+    private final int nodeSize;
+
+    private final ValueLayout.OfInt intLayout;
+
+    private final ValueLayout.OfLong longLayout;
+
+    private MappedIndexFile(IndexLayout layout, ByteOrder order, int keySize, long size,
+                            MemorySegment keys, long keyCount, MemorySegment aux, int nodeSize) {
+        this.layout = layout;
+        this.order = order;
+        this.keySize = keySize;
+        this.size = size;
+        this.keys = keys;
+        this.keyCount = keyCount;
+        this.aux = aux;
+        this.nodeSize = nodeSize;
+        this.intLayout = ValueLayout.JAVA_INT.withOrder(order);
+        this.longLayout = ValueLayout.JAVA_LONG.withOrder(order);
+        if (layout == IndexLayout.BTREE) {
+            layerOffsets = aux.toArray(intLayout);
+        } else {
+            layerOffsets = null;
+        }
+    }
+
+    /**
+     * Map an index file in memory.<br>
+     * Only the header is read, the computational cost for this method is <code>O(1)</code>.
+     * @param path The index file.
+     * @param arena The arena that controls the lifetime of the mapping.
+     * @return A view of the index.
+     * @throws IOException if the file cannot be read or is not a valid index file.
+     * @since 1.0
+     */
+    public static MappedIndexFile open(Path path, Arena arena) throws IOException {
+        final MemorySegment file;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+        }
+        if (file.byteSize() < IndexFileWriter.HEADER_SIZE) {
+            throw new IOException("Index file is too short: " + path);
+        }
+        for (int i = 0; i < IndexFileWriter.MAGIC.length; i++) {
+            if (file.get(ValueLayout.JAVA_BYTE, i) != IndexFileWriter.MAGIC[i]) {
+                throw new IOException("Not an index file: " + path);
+            }
+        }
+        final byte version = file.get(ValueLayout.JAVA_BYTE, 4);
+        if (version != IndexFileWriter.VERSION) {
+            throw new IOException("Unsupported index file version " + version + ": " + path);
+        }
+        final int keySize = file.get(ValueLayout.JAVA_BYTE, 5);
+        final ByteOrder order = (file.get(ValueLayout.JAVA_BYTE, 6) == 1) ? ByteOrder.BIG_ENDIAN
+                : ByteOrder.LITTLE_ENDIAN;
+        final int layoutOrdinal = file.get(ValueLayout.JAVA_BYTE, 7);
+        if ((keySize != Integer.BYTES && keySize != Long.BYTES)
+                || layoutOrdinal < 0 || layoutOrdinal >= IndexLayout.values().length) {
+            throw new IOException("Corrupted index file header: " + path);
+        }
+        final ValueLayout.OfLong header = ValueLayout.JAVA_LONG.withOrder(order);
+        final long size = file.get(header, 8);
+        final long keysOffset = file.get(header, 16);
+        final long keyCount = file.get(header, 24);
+        final long auxOffset = file.get(header, 32);
+        final long auxCount = file.get(header, 40);
+        final int nodeSize = file.get(ValueLayout.JAVA_INT.withOrder(order), 48);
+        if (layoutOrdinal == IndexLayout.BTREE.ordinal() && nodeSize <= 0) {
+            throw new IOException("Corrupted index file header: " + path);
+        }
+        try {
+            final MemorySegment keys = file.asSlice(keysOffset, keyCount * keySize);
+            final MemorySegment aux = (auxCount == 0) ? MemorySegment.NULL
+                    : file.asSlice(auxOffset, auxCount * Integer.BYTES);
+            return new MappedIndexFile(IndexLayout.values()[layoutOrdinal], order, keySize, size,
+                    keys, keyCount, aux, nodeSize);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Truncated index file: " + path, e);
+        }
+    }
+
+    /**
+     * Search a number into the index.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being {@link #size()}.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param target The target to search for. When the file holds <code>int</code> keys,
+     *               targets outside of their range are never found.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in the index.<br>
+     * Otherwise, returns its position in the sorted array the file was written from.
+     * @since 1.0
+     */
+    public long search(long target) {
+        if (keySize == Integer.BYTES && target != (int) target) {
+            return (target < 0) ? ~0L : ~size;
+        }
+        return switch (layout) {
+            case SORTED -> (keySize == Integer.BYTES)
+                    ? SegmentBinarySearch.search(keys, intLayout, (int) target)
+                    : SegmentBinarySearch.search(keys, longLayout, target);
+            case EYTZINGER -> searchEytzinger(target);
+            case BTREE -> searchBTree(target);
+        };
+    }
+
+    private long key(long index) {
+        return (keySize == Integer.BYTES) ? keys.getAtIndex(intLayout, index) : keys.getAtIndex(longLayout, index);
+    }
+
+    private long searchEytzinger(long target) {
+        long k = 1;
+        while (k < keyCount) {
+            k = (k << 1) + (key(k) < target ? 1 : 0);
+        }
+        k >>>= Long.numberOfTrailingZeros(~k) + 1;
+        if (k == 0) {
+            return ~size;
+        }
+        final long rank = aux.getAtIndex(intLayout, k);
+        return key(k) == target ? rank : ~rank;
+    }
+
+    private long searchBTree(long target) {
+        long node = 0;
+        for (int h = layerOffsets.length - 2; h > 0; h--) {
+            node = node * (nodeSize + 1) + rank(layerOffsets[h] + node * nodeSize, target);
+        }
+        final long position = Math.min(node * nodeSize + rank(node * nodeSize, target), size);
+        return (position < size && key(position) == target) ? position : ~position;
+    }
+
+    private int rank(long from, long target) {
+        int count = 0;
+        for (long i = from; i < from + nodeSize; i++) {
+            count += (key(i) < target) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Arrangement of the keys in the file.
+     * @return The layout the file was written with.
+     * @since 1.0
+     */
+    public IndexLayout layout() {
+        return layout;
+    }
+
+    /**
+     * Byte order of the numbers in the file.
+     * @return The byte order the file was written with.
+     * @since 1.0
+     */
+    public ByteOrder order() {
+        return order;
+    }
+
+    /**
+     * Type of the keys in the file.
+     * @return <code>int.class</code> or <code>long.class</code>.
+     * @since 1.0
+     */
+    public Class<?> keyType() {
+        return (keySize == Integer.BYTES) ? int.class : long.class;
+    }
+
+    /**
+     * Number of elements stored in the index.
+     * @return The length of the array the file was written from.
+     * @since 1.0
+     */
+    public long size() {
+        return size;
+    }
+}
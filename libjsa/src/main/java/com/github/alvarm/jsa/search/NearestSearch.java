@@ -0,0 +1,654 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.Utils;
+
+/**
+ * Class that implements floor, ceiling and nearest value queries over sorted arrays, such as time series.<br>
+ * The insertion point returned by {@link IterativeBinarySearch} has to be decoded and its neighbours read to
+ * answer "the sample at or before <i>t</i>" or "the value closest to <i>x</i>". These queries are answered
+ * directly with the branchless bounds of {@link RangeSearch}: the floor is the position before the upper bound
+ * and the ceiling is the lower bound. Floats and doubles are compared with the total order of
+ * {@link Utils#sortableBits(double)}.<br>
+ * Every query returns a position of the array, or <i>-1</i> when there is no such value. The floor is the last
+ * position holding its value and the ceiling is the first one.<br>
+ * The batch variants take targets sorted in ascending order, like the timestamps of a stream of ticks, and gallop
+ * forward from the result of the previous target instead of starting every search from scratch.<br>
+ * The computational cost for every query is <code>O(log<sub>2</sub>(n))</code> with
+ * <i>n</i> being <code>array.length</code>.<br>
+ * The memory cost for this implementation is <code>O(1)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class NearestSearch {
+
+    /**
+     * Largest step of the gallop, so that it never overflows.
+     */
+    private static final int MAX_STEP = 1 << 30;
+
+    /**
+     * Find the last position whose value is not greater than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return The last position whose value is not greater than {@code target}, or <i>-1</i> if there is none.
+     * @since 1.0
+     */
+    public static int floor(long[] array, long target) {
+        return RangeSearch.upperBound(array, 0, array.length, target) - 1;
+    }
+
+    /**
+     * Find the first position whose value is not smaller than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return The first position whose value is not smaller than {@code target}, or <i>-1</i> if there is none.
+     * @since 1.0
+     */
+    public static int ceiling(long[] array, long target) {
+        final int position = RangeSearch.lowerBound(array, 0, array.length, target);
+        return (position < array.length) ? position : -1;
+    }
+
+    /**
+     * Find the value closest to a target.<br>
+     * Only the floor of the target and the value after it are compared.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return The position of the value closest to {@code target}, or <i>-1</i> if the array is empty.
+     * On a tie the lower value is returned.
+     * @since 1.0
+     */
+    public static int nearest(long[] array, long target) {
+        return nearest(array, target, RangeSearch.upperBound(array, 0, array.length, target));
+    }
+
+    /**
+     * Find the value closest to a target, accepting it only if it lies within a tolerance.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @param tolerance The maximum distance between {@code target} and the returned value. A negative tolerance
+     *                  accepts no value.
+     * @return The position of the value closest to {@code target} if it lies within {@code tolerance},
+     * otherwise <i>-1</i>.
+     * @since 1.0
+     */
+    public static int nearestWithin(long[] array, long target, long tolerance) {
+        return within(array, nearest(array, target), target, tolerance);
+    }
+
+    /**
+     * Find the floor of every target of a sorted array of targets.<br>
+     * The targets must be sorted in ascending order.
+     * The search for every target gallops forward from the result of the previous one, so close targets only cost
+     * a few probes.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n / m))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            the last position whose value is not greater than it, or <i>-1</i>.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void floorAll(long[] array, long[] targets, int[] out) {
+        checkOutput(targets.length, out);
+        int upper = 0;
+        for (int i = 0; i < targets.length; i++) {
+            upper = upperBoundFrom(array, upper, targets[i]);
+            out[i] = upper - 1;
+        }
+    }
+
+    /**
+     * Find the ceiling of every target of a sorted array of targets.<br>
+     * The targets must be sorted in ascending order.
+     * The search for every target gallops forward from the result of the previous one, so close targets only cost
+     * a few probes.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n / m))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            the first position whose value is not smaller than it, or <i>-1</i>.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void ceilingAll(long[] array, long[] targets, int[] out) {
+        checkOutput(targets.length, out);
+        int lower = 0;
+        for (int i = 0; i < targets.length; i++) {
+            lower = lowerBoundFrom(array, lower, targets[i]);
+            out[i] = (lower < array.length) ? lower : -1;
+        }
+    }
+
+    /**
+     * Find the value closest to every target of a sorted array of targets.<br>
+     * The targets must be sorted in ascending order.
+     * The search for every target gallops forward from the result of the previous one, so close targets only cost
+     * a few probes.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n / m))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            the position of the value closest to it, or <i>-1</i> if the array is empty.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void nearestAll(long[] array, long[] targets, int[] out) {
+        checkOutput(targets.length, out);
+        int upper = 0;
+        for (int i = 0; i < targets.length; i++) {
+            upper = upperBoundFrom(array, upper, targets[i]);
+            out[i] = nearest(array, targets[i], upper);
+        }
+    }
+
+    /**
+     * Find the value closest to every target of a sorted array of targets, accepting it only if it lies within
+     * a tolerance.<br>
+     * The targets must be sorted in ascending order.
+     * The search for every target gallops forward from the result of the previous one, so close targets only cost
+     * a few probes.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n / m))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param targets The targets to search for.
+     * @param tolerance The maximum distance between a target and the returned value. A negative tolerance
+     *                  accepts no value.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            the position of the value closest to it if it lies within {@code tolerance},
+     *            otherwise <i>-1</i>.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void nearestWithinAll(long[] array, long[] targets, long tolerance, int[] out) {
+        checkOutput(targets.length, out);
+        int upper = 0;
+        for (int i = 0; i < targets.length; i++) {
+            upper = upperBoundFrom(array, upper, targets[i]);
+            out[i] = within(array, nearest(array, targets[i], upper), targets[i], tolerance);
+        }
+    }
+
+    private static int nearest(long[] array, long target, int upper) {
+        if (upper == 0) {
+            return (array.length > 0) ? 0 : -1;
+        }
+        if (upper == array.length) {
+            return upper - 1;
+        }
+        return (Long.compareUnsigned(array[upper] - target, target - array[upper - 1]) < 0) ? upper : upper - 1;
+    }
+
+    private static int within(long[] array, int position, long target, long tolerance) {
+        return (position >= 0 && tolerance >= 0
+                && Long.compareUnsigned(Math.max(array[position], target) - Math.min(array[position], target),
+                tolerance) <= 0) ? position : -1;
+    }
+
+    private static int upperBoundFrom(long[] array, int fromIndex, long target) {
+        final long key = target;
+        final int n = array.length;
+        int base = fromIndex;
+        int step = 1;
+        while (step <= n - base && array[base + step - 1] <= key) {
+            base += step;
+            step = (step >= MAX_STEP) ? MAX_STEP : step << 1;
+        }
+        return RangeSearch.upperBound(array, base, base + Math.min(step - 1, n - base), target);
+    }
+
+    private static int lowerBoundFrom(long[] array, int fromIndex, long target) {
+        final long key = target;
+        final int n = array.length;
+        int base = fromIndex;
+        int step = 1;
+        while (step <= n - base && array[base + step - 1] < key) {
+            base += step;
+            step = (step >= MAX_STEP) ? MAX_STEP : step << 1;
+        }
+        return RangeSearch.lowerBound(array, base, base + Math.min(step - 1, n - base), target);
+    }
+
+    /**
+     * Find the last position whose value is not greater than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(double[])} does.
+     * @param target The target to search for.
+     * @return The last position whose value is not greater than {@code target}, or <i>-1</i> if there is none.
+     * @since 1.0
+     */
+    public static int floor(double[] array, double target) {
+        return RangeSearch.upperBound(array, 0, array.length, target) - 1;
+    }
+
+    /**
+     * Find the first position whose value is not smaller than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(double[])} does.
+     * @param target The target to search for.
+     * @return The first position whose value is not smaller than {@code target}, or <i>-1</i> if there is none.
+     * @since 1.0
+     */
+    public static int ceiling(double[] array, double target) {
+        final int position = RangeSearch.lowerBound(array, 0, array.length, target);
+        return (position < array.length) ? position : -1;
+    }
+
+    /**
+     * Find the value closest to a target.<br>
+     * Only the floor of the target and the value after it are compared.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(double[])} does.
+     * @param target The target to search for.
+     * @return The position of the value closest to {@code target}, or <i>-1</i> if the array is empty.
+     * On a tie the lower value is returned.
+     * @since 1.0
+     */
+    public static int nearest(double[] array, double target) {
+        return nearest(array, target, RangeSearch.upperBound(array, 0, array.length, target));
+    }
+
+    /**
+     * Find the value closest to a target, accepting it only if it lies within a tolerance.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(double[])} does.
+     * @param target The target to search for.
+     * @param tolerance The maximum distance between {@code target} and the returned value.
+     * @return The position of the value closest to {@code target} if it lies within {@code tolerance},
+     * otherwise <i>-1</i>.
+     * @since 1.0
+     */
+    public static int nearestWithin(double[] array, double target, double tolerance) {
+        return within(array, nearest(array, target), target, tolerance);
+    }
+
+    /**
+     * Find the floor of every target of a sorted array of targets.<br>
+     * The targets must be sorted in ascending order, as {@link java.util.Arrays#sort(double[])} does.
+     * The search for every target gallops forward from the result of the previous one, so close targets only cost
+     * a few probes.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n / m))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(double[])} does.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            the last position whose value is not greater than it, or <i>-1</i>.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void floorAll(double[] array, double[] targets, int[] out) {
+        checkOutput(targets.length, out);
+        int upper = 0;
+        for (int i = 0; i < targets.length; i++) {
+            upper = upperBoundFrom(array, upper, targets[i]);
+            out[i] = upper - 1;
+        }
+    }
+
+    /**
+     * Find the ceiling of every target of a sorted array of targets.<br>
+     * The targets must be sorted in ascending order, as {@link java.util.Arrays#sort(double[])} does.
+     * The search for every target gallops forward from the result of the previous one, so close targets only cost
+     * a few probes.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n / m))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(double[])} does.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            the first position whose value is not smaller than it, or <i>-1</i>.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void ceilingAll(double[] array, double[] targets, int[] out) {
+        checkOutput(targets.length, out);
+        int lower = 0;
+        for (int i = 0; i < targets.length; i++) {
+            lower = lowerBoundFrom(array, lower, targets[i]);
+            out[i] = (lower < array.length) ? lower : -1;
+        }
+    }
+
+    /**
+     * Find the value closest to every target of a sorted array of targets.<br>
+     * The targets must be sorted in ascending order, as {@link java.util.Arrays#sort(double[])} does.
+     * The search for every target gallops forward from the result of the previous one, so close targets only cost
+     * a few probes.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n / m))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(double[])} does.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            the position of the value closest to it, or <i>-1</i> if the array is empty.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void nearestAll(double[] array, double[] targets, int[] out) {
+        checkOutput(targets.length, out);
+        int upper = 0;
+        for (int i = 0; i < targets.length; i++) {
+            upper = upperBoundFrom(array, upper, targets[i]);
+            out[i] = nearest(array, targets[i], upper);
+        }
+    }
+
+    /**
+     * Find the value closest to every target of a sorted array of targets, accepting it only if it lies within
+     * a tolerance.<br>
+     * The targets must be sorted in ascending order, as {@link java.util.Arrays#sort(double[])} does.
+     * The search for every target gallops forward from the result of the previous one, so close targets only cost
+     * a few probes.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n / m))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(double[])} does.
+     * @param targets The targets to search for.
+     * @param tolerance The maximum distance between a target and the returned value.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            the position of the value closest to it if it lies within {@code tolerance},
+     *            otherwise <i>-1</i>.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void nearestWithinAll(double[] array, double[] targets, double tolerance, int[] out) {
+        checkOutput(targets.length, out);
+        int upper = 0;
+        for (int i = 0; i < targets.length; i++) {
+            upper = upperBoundFrom(array, upper, targets[i]);
+            out[i] = within(array, nearest(array, targets[i], upper), targets[i], tolerance);
+        }
+    }
+
+    private static int nearest(double[] array, double target, int upper) {
+        if (upper == 0) {
+            return (array.length > 0) ? 0 : -1;
+        }
+        if (upper == array.length) {
+            return upper - 1;
+        }
+        return (array[upper] - target < target - array[upper - 1]) ? upper : upper - 1;
+    }
+
+    private static int within(double[] array, int position, double target, double tolerance) {
+        return (position >= 0 && (Utils.sortableBits(array[position]) == Utils.sortableBits(target)
+                || Math.abs(array[position] - target) <= tolerance)) ? position : -1;
+    }
+
+    private static int upperBoundFrom(double[] array, int fromIndex, double target) {
+        final long key = Utils.sortableBits(target);
+        final int n = array.length;
+        int base = fromIndex;
+        int step = 1;
+        while (step <= n - base && Utils.sortableBits(array[base + step - 1]) <= key) {
+            base += step;
+            step = (step >= MAX_STEP) ? MAX_STEP : step << 1;
+        }
+        return RangeSearch.upperBound(array, base, base + Math.min(step - 1, n - base), target);
+    }
+
+    private static int lowerBoundFrom(double[] array, int fromIndex, double target) {
+        final long key = Utils.sortableBits(target);
+        final int n = array.length;
+        int base = fromIndex;
+        int step = 1;
+        while (step <= n - base && Utils.sortableBits(array[base + step - 1]) < key) {
+            base += step;
+            step = (step >= MAX_STEP) ? MAX_STEP : step << 1;
+        }
+        return RangeSearch.lowerBound(array, base, base + Math.min(step - 1, n - base), target);
+    }
+
+    /**
+     * Find the last position whose value is not greater than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(float[])} does.
+     * @param target The target to search for.
+     * @return The last position whose value is not greater than {@code target}, or <i>-1</i> if there is none.
+     * @since 1.0
+     */
+    public static int floor(float[] array, float target) {
+        return RangeSearch.upperBound(array, 0, array.length, target) - 1;
+    }
+
+    /**
+     * Find the first position whose value is not smaller than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(float[])} does.
+     * @param target The target to search for.
+     * @return The first position whose value is not smaller than {@code target}, or <i>-1</i> if there is none.
+     * @since 1.0
+     */
+    public static int ceiling(float[] array, float target) {
+        final int position = RangeSearch.lowerBound(array, 0, array.length, target);
+        return (position < array.length) ? position : -1;
+    }
+
+    /**
+     * Find the value closest to a target.<br>
+     * Only the floor of the target and the value after it are compared.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(float[])} does.
+     * @param target The target to search for.
+     * @return The position of the value closest to {@code target}, or <i>-1</i> if the array is empty.
+     * On a tie the lower value is returned.
+     * @since 1.0
+     */
+    public static int nearest(float[] array, float target) {
+        return nearest(array, target, RangeSearch.upperBound(array, 0, array.length, target));
+    }
+
+    /**
+     * Find the value closest to a target, accepting it only if it lies within a tolerance.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(float[])} does.
+     * @param target The target to search for.
+     * @param tolerance The maximum distance between {@code target} and the returned value.
+     * @return The position of the value closest to {@code target} if it lies within {@code tolerance},
+     * otherwise <i>-1</i>.
+     * @since 1.0
+     */
+    public static int nearestWithin(float[] array, float target, float tolerance) {
+        return within(array, nearest(array, target), target, tolerance);
+    }
+
+    /**
+     * Find the floor of every target of a sorted array of targets.<br>
+     * The targets must be sorted in ascending order, as {@link java.util.Arrays#sort(float[])} does.
+     * The search for every target gallops forward from the result of the previous one, so close targets only cost
+     * a few probes.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n / m))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(float[])} does.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            the last position whose value is not greater than it, or <i>-1</i>.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void floorAll(float[] array, float[] targets, int[] out) {
+        checkOutput(targets.length, out);
+        int upper = 0;
+        for (int i = 0; i < targets.length; i++) {
+            upper = upperBoundFrom(array, upper, targets[i]);
+            out[i] = upper - 1;
+        }
+    }
+
+    /**
+     * Find the ceiling of every target of a sorted array of targets.<br>
+     * The targets must be sorted in ascending order, as {@link java.util.Arrays#sort(float[])} does.
+     * The search for every target gallops forward from the result of the previous one, so close targets only cost
+     * a few probes.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n / m))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(float[])} does.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            the first position whose value is not smaller than it, or <i>-1</i>.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void ceilingAll(float[] array, float[] targets, int[] out) {
+        checkOutput(targets.length, out);
+        int lower = 0;
+        for (int i = 0; i < targets.length; i++) {
+            lower = lowerBoundFrom(array, lower, targets[i]);
+            out[i] = (lower < array.length) ? lower : -1;
+        }
+    }
+
+    /**
+     * Find the value closest to every target of a sorted array of targets.<br>
+     * The targets must be sorted in ascending order, as {@link java.util.Arrays#sort(float[])} does.
+     * The search for every target gallops forward from the result of the previous one, so close targets only cost
+     * a few probes.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n / m))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(float[])} does.
+     * @param targets The targets to search for.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            the position of the value closest to it, or <i>-1</i> if the array is empty.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void nearestAll(float[] array, float[] targets, int[] out) {
+        checkOutput(targets.length, out);
+        int upper = 0;
+        for (int i = 0; i < targets.length; i++) {
+            upper = upperBoundFrom(array, upper, targets[i]);
+            out[i] = nearest(array, targets[i], upper);
+        }
+    }
+
+    /**
+     * Find the value closest to every target of a sorted array of targets, accepting it only if it lies within
+     * a tolerance.<br>
+     * The targets must be sorted in ascending order, as {@link java.util.Arrays#sort(float[])} does.
+     * The search for every target gallops forward from the result of the previous one, so close targets only cost
+     * a few probes.<br>
+     * The computational cost for this algorithm is <code>O(m * log<sub>2</sub>(n / m))</code> with
+     * <i>n</i> being <code>array.length</code> and <i>m</i> being <code>targets.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(float[])} does.
+     * @param targets The targets to search for.
+     * @param tolerance The maximum distance between a target and the returned value.
+     * @param out The array where the result for <code>targets[i]</code> is written at position <i>i</i>:
+     *            the position of the value closest to it if it lies within {@code tolerance},
+     *            otherwise <i>-1</i>.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code targets}.
+     * @since 1.0
+     */
+    public static void nearestWithinAll(float[] array, float[] targets, float tolerance, int[] out) {
+        checkOutput(targets.length, out);
+        int upper = 0;
+        for (int i = 0; i < targets.length; i++) {
+            upper = upperBoundFrom(array, upper, targets[i]);
+            out[i] = within(array, nearest(array, targets[i], upper), targets[i], tolerance);
+        }
+    }
+
+    private static int nearest(float[] array, float target, int upper) {
+        if (upper == 0) {
+            return (array.length > 0) ? 0 : -1;
+        }
+        if (upper == array.length) {
+            return upper - 1;
+        }
+        return (array[upper] - target < target - array[upper - 1]) ? upper : upper - 1;
+    }
+
+    private static int within(float[] array, int position, float target, float tolerance) {
+        return (position >= 0 && (Utils.sortableBits(array[position]) == Utils.sortableBits(target)
+                || Math.abs(array[position] - target) <= tolerance)) ? position : -1;
+    }
+
+    private static int upperBoundFrom(float[] array, int fromIndex, float target) {
+        final int key = Utils.sortableBits(target);
+        final int n = array.length;
+        int base = fromIndex;
+        int step = 1;
+        while (step <= n - base && Utils.sortableBits(array[base + step - 1]) <= key) {
+            base += step;
+            step = (step >= MAX_STEP) ? MAX_STEP : step << 1;
+        }
+        return RangeSearch.upperBound(array, base, base + Math.min(step - 1, n - base), target);
+    }
+
+    private static int lowerBoundFrom(float[] array, int fromIndex, float target) {
+        final int key = Utils.sortableBits(target);
+        final int n = array.length;
+        int base = fromIndex;
+        int step = 1;
+        while (step <= n - base && Utils.sortableBits(array[base + step - 1]) < key) {
+            base += step;
+            step = (step >= MAX_STEP) ? MAX_STEP : step << 1;
+        }
+        return RangeSearch.lowerBound(array, base, base + Math.min(step - 1, n - base), target);
+    }
+
+    private static void checkOutput(int count, int[] out) {
+        if (out.length < count) {
+            throw new IllegalArgumentException("Output array length " + out.length
+                    + " is lower than the number of targets " + count);
+        }
+    }
+}
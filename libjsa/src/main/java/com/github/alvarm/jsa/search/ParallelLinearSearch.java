@@ -0,0 +1,355 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.Utils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class that implements the Linear Search algorithm using several threads.<br>
+ * The array is split into chunks that are scanned by the threads of a {@link ForkJoinPool}.
+ * The lowest position found so far is shared between all chunks, and a chunk stops scanning as soon as it
+ * starts after that position, so the first occurrence of the target is returned, the same as {@link LinearSearch}.<br>
+ * Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are searched sequentially in the calling thread,
+ * since splitting them costs more than scanning them.<br>
+ * Computational cost for this algorithm is <code>O(n / p)</code> with
+ * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+ * Memory cost for this implementation is <code>O(p)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class ParallelLinearSearch {
+
+    /**
+     * Minimum length of an array to be searched in parallel, and minimum length of every chunk.
+     * @since 1.0
+     */
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    /**
+     * Number of elements scanned between checks of the lowest position found so far.
+     */
+    private static final int CANCELLATION_STEP = 1 << 12;
+
+    /**
+     * Search sequentially for a target inside an array, splitting it between the threads of the common pool.<br>
+     * Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are searched in the calling thread.<br>
+     * Computational cost for this method is <code>O(n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * Memory cost for this method is <code>O(p)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(int[] array, int target) {
+        return search(array, target, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Search sequentially for a target inside an array, splitting it between the threads of {@code pool}.<br>
+     * Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are searched in the calling thread.<br>
+     * Computational cost for this method is <code>O(n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * Memory cost for this method is <code>O(p)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @param pool The pool that runs the search.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(int[] array, int target, ForkJoinPool pool) {
+        return search(array.length, pool, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (array[i] == target) {
+                    return i;
+                }
+            }
+            return -1;
+        });
+    }
+
+    /**
+     * Search sequentially for a target inside an array, splitting it between the threads of the common pool.<br>
+     * Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are searched in the calling thread.<br>
+     * Computational cost for this method is <code>O(n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * Memory cost for this method is <code>O(p)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(long[] array, long target) {
+        return search(array, target, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Search sequentially for a target inside an array, splitting it between the threads of {@code pool}.<br>
+     * Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are searched in the calling thread.<br>
+     * Computational cost for this method is <code>O(n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * Memory cost for this method is <code>O(p)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @param pool The pool that runs the search.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(long[] array, long target, ForkJoinPool pool) {
+        return search(array.length, pool, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (array[i] == target) {
+                    return i;
+                }
+            }
+            return -1;
+        });
+    }
+
+    /**
+     * Search sequentially for a target inside an array, splitting it between the threads of the common pool.<br>
+     * Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are searched in the calling thread.<br>
+     * Computational cost for this method is <code>O(n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * Memory cost for this method is <code>O(p)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @param epsilon The precision threshold where we can say two numbers are equal.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(float[] array, float target, float epsilon) {
+        return search(array, target, epsilon, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Search sequentially for a target inside an array, splitting it between the threads of the common pool.<br>
+     * Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are searched in the calling thread.<br>
+     * Computational cost for this method is <code>O(n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * Memory cost for this method is <code>O(p)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(float[] array, float target) {
+        return search(array, target, Utils.getFloatEpsilon(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Search sequentially for a target inside an array, splitting it between the threads of {@code pool}.<br>
+     * Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are searched in the calling thread.<br>
+     * Computational cost for this method is <code>O(n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * Memory cost for this method is <code>O(p)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @param epsilon The precision threshold where we can say two numbers are equal.
+     * @param pool The pool that runs the search.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(float[] array, float target, float epsilon, ForkJoinPool pool) {
+        return search(array.length, pool, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (!(Math.abs(target - array[i]) > epsilon)) {
+                    return i;
+                }
+            }
+            return -1;
+        });
+    }
+
+    /**
+     * Search sequentially for a target inside an array, splitting it between the threads of the common pool.<br>
+     * Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are searched in the calling thread.<br>
+     * Computational cost for this method is <code>O(n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * Memory cost for this method is <code>O(p)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @param epsilon The precision threshold where we can say two numbers are equal.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(double[] array, double target, double epsilon) {
+        return search(array, target, epsilon, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Search sequentially for a target inside an array, splitting it between the threads of the common pool.<br>
+     * Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are searched in the calling thread.<br>
+     * Computational cost for this method is <code>O(n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * Memory cost for this method is <code>O(p)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(double[] array, double target) {
+        return search(array, target, Utils.getDoubleEpsilon(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Search sequentially for a target inside an array, splitting it between the threads of {@code pool}.<br>
+     * Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are searched in the calling thread.<br>
+     * Computational cost for this method is <code>O(n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * Memory cost for this method is <code>O(p)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @param epsilon The precision threshold where we can say two numbers are equal.
+     * @param pool The pool that runs the search.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(double[] array, double target, double epsilon, ForkJoinPool pool) {
+        return search(array.length, pool, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (!(Math.abs(target - array[i]) > epsilon)) {
+                    return i;
+                }
+            }
+            return -1;
+        });
+    }
+
+    /**
+     * Search sequentially for a target inside an array, splitting it between the threads of the common pool.<br>
+     * Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are searched in the calling thread.<br>
+     * Computational cost for this method is <code>O(n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * Memory cost for this method is <code>O(p)</code>.
+     * @param <E> The element type.
+     * @param array An array.
+     * @param target The target to search for.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @see Object#equals(Object)
+     * @since 1.0
+     */
+    public static <E> int search(E[] array, E target) {
+        return search(array, target, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Search sequentially for a target inside an array, splitting it between the threads of {@code pool}.<br>
+     * Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are searched in the calling thread.<br>
+     * Computational cost for this method is <code>O(n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * Memory cost for this method is <code>O(p)</code>.
+     * @param <E> The element type.
+     * @param array An array.
+     * @param target The target to search for.
+     * @param pool The pool that runs the search.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @see Object#equals(Object)
+     * @since 1.0
+     */
+    public static <E> int search(E[] array, E target, ForkJoinPool pool) {
+        return search(array.length, pool, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                if (target.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        });
+    }
+
+    private static int search(int length, ForkJoinPool pool, Scanner scanner) {
+        if (length < SEQUENTIAL_THRESHOLD || pool.getParallelism() < 2) {
+            return scanner.scan(0, length);
+        }
+        final int chunk = Math.max(SEQUENTIAL_THRESHOLD, length / (pool.getParallelism() << 2));
+        final AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        pool.invoke(new ScanTask(scanner, found, chunk, 0, length));
+        final int position = found.get();
+        return (position == Integer.MAX_VALUE) ? -1 : position;
+    }
+
+    /**
+     * Sequential search over a range of an array.
+     */
+    @FunctionalInterface
+    private interface Scanner {
+        /**
+         * @param from The (inclusive) starting position for searching.
+         * @param to The (exclusive) ending position for searching.
+         * @return <i>-1</i> if the target is not present in the range, otherwise its first position.
+         */
+        int scan(int from, int to);
+    }
+
+    private static class ScanTask extends RecursiveAction {
+        private final Scanner scanner;
+        private final AtomicInteger found;
+        private final int chunk;
+        private final int from;
+        private final int to;
+
+        private ScanTask(Scanner scanner, AtomicInteger found, int chunk, int from, int to) {
+            this.scanner = scanner;
+            this.found = found;
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > chunk) {
+                final int middle = (from + to) >>> 1;
+                ScanTask upper = new ScanTask(scanner, found, chunk, middle, to);
+                upper.fork();
+                new ScanTask(scanner, found, chunk, from, middle).compute();
+                upper.join();
+                return;
+            }
+            int start = from;
+            while (start < to && start < found.get()) {
+                final int end = (to - start > CANCELLATION_STEP) ? start + CANCELLATION_STEP : to;
+                final int position = scanner.scan(start, end);
+                if (position >= 0) {
+                    found.accumulateAndGet(position, Math::min);
+                    return;
+                }
+                start = end;
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import java.util.Arrays;
+
+/**
+ * Learned search index that models a sorted long array with a piecewise linear function.<br>
+ * The keys are split into segments, and each segment stores its first key, its first position and a slope,
+ * so that the position of any key of the segment is predicted with an error of at most {@link #maxError()}
+ * positions. The segments are built in a single pass with the shrinking cone algorithm, which starts a new
+ * segment only when no line through the first point of the current one can keep all its points within the error.<br>
+ * A search finds the segment with {@link IterativeBinarySearch} over the first keys, predicts a position and
+ * finishes with {@link IterativeBinarySearch} over a window of <code>2 * maxError + 3</code> positions around it.
+ * If the answer falls at the border of the window, which can happen for missing targets next to long runs of
+ * duplicates, the search continues with {@link ExponentialSearch} from there.<br>
+ * Larger errors need fewer segments, so the error is the knob to trade the size of the model
+ * against the cost of the final search.<br>
+ * The index keeps a reference to the array, which must not be modified afterwards.<br>
+ * The results follow the same contract as {@link IterativeBinarySearch}.<br>
+ * The computational cost for a search is <code>O(log<sub>2</sub>(s) + log<sub>2</sub>(e))</code> with
+ * <i>s</i> being the number of segments and <i>e</i> being the maximum error.<br>
+ * The memory cost for this index is <code>O(s)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class PiecewiseLinearIndex {
+
+    private final long[] array;
+
+    private final int maxError;
+
+    private final long[] firstKeys;
+
+    private final int[] firstPositions;
+
+    private final double[] slopes;
+
+    /**
+     * Build an index over a sorted array.<br>
+     * The computational cost for building the index is <code>O(n)</code> with
+     * <i>n</i> being <code>array.length</code>.
+     * @param array A sorted long array.
+     * @param maxError The maximum distance between the predicted and the actual position of a key.
+     * @throws IllegalArgumentException if {@code maxError} is negative.
+     * @since 1.0
+     */
+    public PiecewiseLinearIndex(long[] array, int maxError) {
+        if (maxError < 0) {
+            throw new IllegalArgumentException("Maximum error must not be negative: " + maxError);
+        }
+        this.array = array;
+        this.maxError = maxError;
+        long[] keys = new long[16];
+        int[] positions = new int[16];
+        double[] lines = new double[16];
+        int segments = 0;
+        int i = 0;
+        while (i < array.length) {
+            final long firstKey = array[i];
+            final int firstPosition = i;
+            double minSlope = 0.0;
+            double maxSlope = Double.POSITIVE_INFINITY;
+            i = nextKey(array, i);
+            while (i < array.length) {
+                final long delta = array[i] - firstKey;
+                if (delta < 0) {
+                    break;
+                }
+                final double dx = (double) delta;
+                final double dy = i - firstPosition;
+                final double low = (dy - maxError) / dx;
+                final double high = (dy + maxError) / dx;
+                if (low > maxSlope || high < minSlope) {
+                    break;
+                }
+                minSlope = Math.max(minSlope, low);
+                maxSlope = Math.min(maxSlope, high);
+                i = nextKey(array, i);
+            }
+            if (segments == keys.length) {
+                keys = Arrays.copyOf(keys, segments << 1);
+                positions = Arrays.copyOf(positions, segments << 1);
+                lines = Arrays.copyOf(lines, segments << 1);
+            }
+            keys[segments] = firstKey;
+            positions[segments] = firstPosition;
+            lines[segments] = (maxSlope == Double.POSITIVE_INFINITY) ? minSlope : (minSlope + maxSlope) / 2.0;
+            segments += 1;
+        }
+        firstKeys = Arrays.copyOf(keys, segments);
+        firstPositions = Arrays.copyOf(positions, segments);
+        slopes = Arrays.copyOf(lines, segments);
+    }
+
+    /**
+     * Find the first position after a run of equal keys.
+     */
+    private static int nextKey(long[] array, int i) {
+        final long key = array[i];
+        do {
+            i += 1;
+        } while (i < array.length && array[i] == key);
+        return i;
+    }
+
+    /**
+     * Search a number into the index.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(s) + log<sub>2</sub>(e))</code> with
+     * <i>s</i> being {@link #segments()} and <i>e</i> being {@link #maxError()}.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in the array.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public int search(long target) {
+        final int segment = IterativeBinarySearch.search(firstKeys, target);
+        if (segment == -1) {
+            return ~0;
+        }
+        final int s = (segment < 0) ? ~segment - 1 : segment;
+        final int first = firstPositions[s];
+        final int last = (s + 1 < firstPositions.length) ? firstPositions[s + 1] : array.length;
+        final long dx = target - firstKeys[s];
+        final double offset = (dx < 0) ? Double.POSITIVE_INFINITY : (double) dx * slopes[s];
+        final int predicted = first + (int) Math.min(offset, last - first);
+        final int start = Math.max(first, predicted - maxError - 1);
+        final int end = Math.min(last, predicted + maxError + 2);
+        final int position = IterativeBinarySearch.search(array, start, end, target);
+        if (position >= 0) {
+            return position;
+        }
+        final int insertion = ~position;
+        if (insertion > start && (insertion < end || end == last)) {
+            return position;
+        }
+        return ExponentialSearch.search(array, target, insertion);
+    }
+
+    /**
+     * Maximum distance between the predicted and the actual position of a key.
+     * @return The error the index was built with.
+     * @since 1.0
+     */
+    public int maxError() {
+        return maxError;
+    }
+
+    /**
+     * Number of linear segments of the model.
+     * @return The number of segments.
+     * @since 1.0
+     */
+    public int segments() {
+        return firstKeys.length;
+    }
+
+    /**
+     * Approximate memory used by the model, without counting the indexed array.
+     * @return The size in bytes of the first keys, first positions and slopes of the segments.
+     * @since 1.0
+     */
+    public long memoryFootprint() {
+        return (long) firstKeys.length * (Long.BYTES + Integer.BYTES + Double.BYTES);
+    }
+}
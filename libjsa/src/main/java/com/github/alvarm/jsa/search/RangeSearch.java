@@ -0,0 +1,609 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.Utils;
+
+import java.util.Comparator;
+
+/**
+ * Class that implements bound queries over sorted arrays that may contain duplicates.<br>
+ * {@link IterativeBinarySearch} returns any position holding the target, so finding the whole run of
+ * duplicates needs a scan whose cost grows with the length of the run. The lower bound is the first position
+ * whose value is not smaller than the target and the upper bound is the first position whose value is
+ * greater than it, so the run is always <code>[lowerBound, upperBound)</code>.<br>
+ * The searches use the branchless loop of {@link BranchlessBinarySearch}.
+ * Floats and doubles are compared with the total order of {@link Utils#sortableBits(double)}.<br>
+ * The computational cost for every query is <code>O(log<sub>2</sub>(n))</code> with
+ * <i>n</i> being <code>array.length</code>.<br>
+ * The memory cost for this implementation is <code>O(1)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class RangeSearch {
+
+    /**
+     * Unpack the start of a range returned by one of the <code>equalRange</code> methods.
+     * @param range A packed range.
+     * @return The inclusive start of the range.
+     * @since 1.0
+     */
+    public static int rangeStart(long range) {
+        return (int) (range >>> 32);
+    }
+
+    /**
+     * Unpack the end of a range returned by one of the <code>equalRange</code> methods.
+     * @param range A packed range.
+     * @return The exclusive end of the range.
+     * @since 1.0
+     */
+    public static int rangeEnd(long range) {
+        return (int) range;
+    }
+
+    /**
+     * Find the first position whose value is not smaller than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return The first position whose value is not smaller than {@code target},
+     * or <code>array.length</code> if there is none.
+     * @since 1.0
+     */
+    public static int lowerBound(int[] array, int target) {
+        return lowerBound(array, 0, array.length, target);
+    }
+
+    /**
+     * Find the first position whose value is greater than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return The first position whose value is greater than {@code target},
+     * or <code>array.length</code> if there is none.
+     * @since 1.0
+     */
+    public static int upperBound(int[] array, int target) {
+        return upperBound(array, 0, array.length, target);
+    }
+
+    private static int lowerBound(int[] array, int fromIndex, int toIndex, int target) {
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (array[base + half - 1] < target) ? base + half : base;
+            length -= half;
+        }
+        return (length > 0 && array[base] < target) ? base + 1 : base;
+    }
+
+    private static int upperBound(int[] array, int fromIndex, int toIndex, int target) {
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (array[base + half - 1] <= target) ? base + half : base;
+            length -= half;
+        }
+        return (length > 0 && array[base] <= target) ? base + 1 : base;
+    }
+
+    /**
+     * Find the range of positions holding a target.<br>
+     * The start of the range is found first and the end is searched only among the positions after it.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return The inclusive start and exclusive end of the run of {@code target} packed in a long.
+     * Use {@link #rangeStart(long)} and {@link #rangeEnd(long)} to unpack them.
+     * When {@code target} is not present both are its insertion point.
+     * @since 1.0
+     */
+    public static long equalRange(int[] array, int target) {
+        final int start = lowerBound(array, 0, array.length, target);
+        final int end = upperBound(array, start, array.length, target);
+        return pack(start, end);
+    }
+
+    /**
+     * Count the values of a sorted array that lie inside a closed range.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param lo The inclusive lower limit of the range.
+     * @param hi The inclusive upper limit of the range.
+     * @return The number of values <i>v</i> with <code>lo &lt;= v &lt;= hi</code>, <i>0</i> if {@code lo} is
+     * greater than {@code hi}.
+     * @since 1.0
+     */
+    public static int count(int[] array, int lo, int hi) {
+        final int start = lowerBound(array, 0, array.length, lo);
+        return Math.max(0, upperBound(array, start, array.length, hi) - start);
+    }
+
+    /**
+     * Find the first position whose value is not smaller than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return The first position whose value is not smaller than {@code target},
+     * or <code>array.length</code> if there is none.
+     * @since 1.0
+     */
+    public static int lowerBound(long[] array, long target) {
+        return lowerBound(array, 0, array.length, target);
+    }
+
+    /**
+     * Find the first position whose value is greater than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return The first position whose value is greater than {@code target},
+     * or <code>array.length</code> if there is none.
+     * @since 1.0
+     */
+    public static int upperBound(long[] array, long target) {
+        return upperBound(array, 0, array.length, target);
+    }
+
+    static int lowerBound(long[] array, int fromIndex, int toIndex, long target) {
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (array[base + half - 1] < target) ? base + half : base;
+            length -= half;
+        }
+        return (length > 0 && array[base] < target) ? base + 1 : base;
+    }
+
+    static int upperBound(long[] array, int fromIndex, int toIndex, long target) {
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (array[base + half - 1] <= target) ? base + half : base;
+            length -= half;
+        }
+        return (length > 0 && array[base] <= target) ? base + 1 : base;
+    }
+
+    /**
+     * Find the range of positions holding a target.<br>
+     * The start of the range is found first and the end is searched only among the positions after it.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return The inclusive start and exclusive end of the run of {@code target} packed in a long.
+     * Use {@link #rangeStart(long)} and {@link #rangeEnd(long)} to unpack them.
+     * When {@code target} is not present both are its insertion point.
+     * @since 1.0
+     */
+    public static long equalRange(long[] array, long target) {
+        final int start = lowerBound(array, 0, array.length, target);
+        final int end = upperBound(array, start, array.length, target);
+        return pack(start, end);
+    }
+
+    /**
+     * Count the values of a sorted array that lie inside a closed range.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array A sorted array.
+     * @param lo The inclusive lower limit of the range.
+     * @param hi The inclusive upper limit of the range.
+     * @return The number of values <i>v</i> with <code>lo &lt;= v &lt;= hi</code>, <i>0</i> if {@code lo} is
+     * greater than {@code hi}.
+     * @since 1.0
+     */
+    public static int count(long[] array, long lo, long hi) {
+        final int start = lowerBound(array, 0, array.length, lo);
+        return Math.max(0, upperBound(array, start, array.length, hi) - start);
+    }
+
+    /**
+     * Find the first position whose value is not smaller than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(float[])} does.
+     * @param target The target to search for.
+     * @return The first position whose value is not smaller than {@code target},
+     * or <code>array.length</code> if there is none.
+     * @since 1.0
+     */
+    public static int lowerBound(float[] array, float target) {
+        return lowerBound(array, 0, array.length, target);
+    }
+
+    /**
+     * Find the first position whose value is greater than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(float[])} does.
+     * @param target The target to search for.
+     * @return The first position whose value is greater than {@code target},
+     * or <code>array.length</code> if there is none.
+     * @since 1.0
+     */
+    public static int upperBound(float[] array, float target) {
+        return upperBound(array, 0, array.length, target);
+    }
+
+    static int lowerBound(float[] array, int fromIndex, int toIndex, float target) {
+        final int key = Utils.sortableBits(target);
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (Utils.sortableBits(array[base + half - 1]) < key) ? base + half : base;
+            length -= half;
+        }
+        return (length > 0 && Utils.sortableBits(array[base]) < key) ? base + 1 : base;
+    }
+
+    static int upperBound(float[] array, int fromIndex, int toIndex, float target) {
+        final int key = Utils.sortableBits(target);
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (Utils.sortableBits(array[base + half - 1]) <= key) ? base + half : base;
+            length -= half;
+        }
+        return (length > 0 && Utils.sortableBits(array[base]) <= key) ? base + 1 : base;
+    }
+
+    /**
+     * Find the range of positions holding a target.<br>
+     * The start of the range is found first and the end is searched only among the positions after it.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(float[])} does.
+     * @param target The target to search for.
+     * @return The inclusive start and exclusive end of the run of {@code target} packed in a long.
+     * Use {@link #rangeStart(long)} and {@link #rangeEnd(long)} to unpack them.
+     * When {@code target} is not present both are its insertion point.
+     * @since 1.0
+     */
+    public static long equalRange(float[] array, float target) {
+        final int start = lowerBound(array, 0, array.length, target);
+        final int end = upperBound(array, start, array.length, target);
+        return pack(start, end);
+    }
+
+    /**
+     * Count the values of a sorted array that lie inside a closed range.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(float[])} does.
+     * @param lo The inclusive lower limit of the range.
+     * @param hi The inclusive upper limit of the range.
+     * @return The number of values <i>v</i> with <code>lo &lt;= v &lt;= hi</code>, <i>0</i> if {@code lo} is
+     * greater than {@code hi}.
+     * @since 1.0
+     */
+    public static int count(float[] array, float lo, float hi) {
+        final int start = lowerBound(array, 0, array.length, lo);
+        return Math.max(0, upperBound(array, start, array.length, hi) - start);
+    }
+
+    /**
+     * Find the first position whose value is not smaller than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(double[])} does.
+     * @param target The target to search for.
+     * @return The first position whose value is not smaller than {@code target},
+     * or <code>array.length</code> if there is none.
+     * @since 1.0
+     */
+    public static int lowerBound(double[] array, double target) {
+        return lowerBound(array, 0, array.length, target);
+    }
+
+    /**
+     * Find the first position whose value is greater than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(double[])} does.
+     * @param target The target to search for.
+     * @return The first position whose value is greater than {@code target},
+     * or <code>array.length</code> if there is none.
+     * @since 1.0
+     */
+    public static int upperBound(double[] array, double target) {
+        return upperBound(array, 0, array.length, target);
+    }
+
+    static int lowerBound(double[] array, int fromIndex, int toIndex, double target) {
+        final long key = Utils.sortableBits(target);
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (Utils.sortableBits(array[base + half - 1]) < key) ? base + half : base;
+            length -= half;
+        }
+        return (length > 0 && Utils.sortableBits(array[base]) < key) ? base + 1 : base;
+    }
+
+    static int upperBound(double[] array, int fromIndex, int toIndex, double target) {
+        final long key = Utils.sortableBits(target);
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (Utils.sortableBits(array[base + half - 1]) <= key) ? base + half : base;
+            length -= half;
+        }
+        return (length > 0 && Utils.sortableBits(array[base]) <= key) ? base + 1 : base;
+    }
+
+    /**
+     * Find the range of positions holding a target.<br>
+     * The start of the range is found first and the end is searched only among the positions after it.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(double[])} does.
+     * @param target The target to search for.
+     * @return The inclusive start and exclusive end of the run of {@code target} packed in a long.
+     * Use {@link #rangeStart(long)} and {@link #rangeEnd(long)} to unpack them.
+     * When {@code target} is not present both are its insertion point.
+     * @since 1.0
+     */
+    public static long equalRange(double[] array, double target) {
+        final int start = lowerBound(array, 0, array.length, target);
+        final int end = upperBound(array, start, array.length, target);
+        return pack(start, end);
+    }
+
+    /**
+     * Count the values of a sorted array that lie inside a closed range.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param array An array sorted as {@link java.util.Arrays#sort(double[])} does.
+     * @param lo The inclusive lower limit of the range.
+     * @param hi The inclusive upper limit of the range.
+     * @return The number of values <i>v</i> with <code>lo &lt;= v &lt;= hi</code>, <i>0</i> if {@code lo} is
+     * greater than {@code hi}.
+     * @since 1.0
+     */
+    public static int count(double[] array, double lo, double hi) {
+        final int start = lowerBound(array, 0, array.length, lo);
+        return Math.max(0, upperBound(array, start, array.length, hi) - start);
+    }
+
+    /**
+     * Find the first position whose value is not smaller than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return The first position whose value is not smaller than {@code target},
+     * or <code>array.length</code> if there is none.
+     * @since 1.0
+     */
+    public static <E extends Comparable<E>> int lowerBound(E[] array, E target) {
+        return lowerBound(array, 0, array.length, target);
+    }
+
+    /**
+     * Find the first position whose value is greater than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return The first position whose value is greater than {@code target},
+     * or <code>array.length</code> if there is none.
+     * @since 1.0
+     */
+    public static <E extends Comparable<E>> int upperBound(E[] array, E target) {
+        return upperBound(array, 0, array.length, target);
+    }
+
+    private static <E extends Comparable<E>> int lowerBound(E[] array, int fromIndex, int toIndex, E target) {
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (target.compareTo(array[base + half - 1]) > 0) ? base + half : base;
+            length -= half;
+        }
+        return (length > 0 && target.compareTo(array[base]) > 0) ? base + 1 : base;
+    }
+
+    private static <E extends Comparable<E>> int upperBound(E[] array, int fromIndex, int toIndex, E target) {
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (target.compareTo(array[base + half - 1]) >= 0) ? base + half : base;
+            length -= half;
+        }
+        return (length > 0 && target.compareTo(array[base]) >= 0) ? base + 1 : base;
+    }
+
+    /**
+     * Find the range of positions holding a target.<br>
+     * The start of the range is found first and the end is searched only among the positions after it.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return The inclusive start and exclusive end of the run of {@code target} packed in a long.
+     * Use {@link #rangeStart(long)} and {@link #rangeEnd(long)} to unpack them.
+     * When {@code target} is not present both are its insertion point.
+     * @since 1.0
+     */
+    public static <E extends Comparable<E>> long equalRange(E[] array, E target) {
+        final int start = lowerBound(array, 0, array.length, target);
+        final int end = upperBound(array, start, array.length, target);
+        return pack(start, end);
+    }
+
+    /**
+     * Count the values of a sorted array that lie inside a closed range.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array A sorted array.
+     * @param lo The inclusive lower limit of the range.
+     * @param hi The inclusive upper limit of the range.
+     * @return The number of values <i>v</i> with <code>lo &lt;= v &lt;= hi</code>, <i>0</i> if {@code lo} is
+     * greater than {@code hi}.
+     * @since 1.0
+     */
+    public static <E extends Comparable<E>> int count(E[] array, E lo, E hi) {
+        final int start = lowerBound(array, 0, array.length, lo);
+        return Math.max(0, upperBound(array, start, array.length, hi) - start);
+    }
+
+    /**
+     * Find the first position whose value is not smaller than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array An array sorted by {@code comparator}.
+     * @param target The target to search for.
+     * @param comparator The comparator used to sort the array.
+     * @return The first position whose value is not smaller than {@code target},
+     * or <code>array.length</code> if there is none.
+     * @since 1.0
+     */
+    public static <E> int lowerBound(E[] array, E target, Comparator<E> comparator) {
+        return lowerBound(array, 0, array.length, target, comparator);
+    }
+
+    /**
+     * Find the first position whose value is greater than a target.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array An array sorted by {@code comparator}.
+     * @param target The target to search for.
+     * @param comparator The comparator used to sort the array.
+     * @return The first position whose value is greater than {@code target},
+     * or <code>array.length</code> if there is none.
+     * @since 1.0
+     */
+    public static <E> int upperBound(E[] array, E target, Comparator<E> comparator) {
+        return upperBound(array, 0, array.length, target, comparator);
+    }
+
+    private static <E> int lowerBound(E[] array, int fromIndex, int toIndex, E target, Comparator<E> comparator) {
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (comparator.compare(target, array[base + half - 1]) > 0) ? base + half : base;
+            length -= half;
+        }
+        return (length > 0 && comparator.compare(target, array[base]) > 0) ? base + 1 : base;
+    }
+
+    private static <E> int upperBound(E[] array, int fromIndex, int toIndex, E target, Comparator<E> comparator) {
+        int base = fromIndex;
+        int length = toIndex - fromIndex;
+        while (length > 1) {
+            final int half = length >>> 1;
+            base = (comparator.compare(target, array[base + half - 1]) >= 0) ? base + half : base;
+            length -= half;
+        }
+        return (length > 0 && comparator.compare(target, array[base]) >= 0) ? base + 1 : base;
+    }
+
+    /**
+     * Find the range of positions holding a target.<br>
+     * The start of the range is found first and the end is searched only among the positions after it.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array An array sorted by {@code comparator}.
+     * @param target The target to search for.
+     * @param comparator The comparator used to sort the array.
+     * @return The inclusive start and exclusive end of the run of {@code target} packed in a long.
+     * Use {@link #rangeStart(long)} and {@link #rangeEnd(long)} to unpack them.
+     * When {@code target} is not present both are its insertion point.
+     * @since 1.0
+     */
+    public static <E> long equalRange(E[] array, E target, Comparator<E> comparator) {
+        final int start = lowerBound(array, 0, array.length, target, comparator);
+        final int end = upperBound(array, start, array.length, target, comparator);
+        return pack(start, end);
+    }
+
+    /**
+     * Count the values of a sorted array that lie inside a closed range.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array An array sorted by {@code comparator}.
+     * @param lo The inclusive lower limit of the range.
+     * @param hi The inclusive upper limit of the range.
+     * @param comparator The comparator used to sort the array.
+     * @return The number of values <i>v</i> with <code>lo &lt;= v &lt;= hi</code>, <i>0</i> if {@code lo} is
+     * greater than {@code hi}.
+     * @since 1.0
+     */
+    public static <E> int count(E[] array, E lo, E hi, Comparator<E> comparator) {
+        final int start = lowerBound(array, 0, array.length, lo, comparator);
+        return Math.max(0, upperBound(array, start, array.length, hi, comparator) - start);
+    }
+
+    private static long pack(int start, int end) {
+        return ((long) start << 32) | (end & 0xFFFFFFFFL);
+    }
+}
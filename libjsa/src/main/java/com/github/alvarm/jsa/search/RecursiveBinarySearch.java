@@ -256,6 +256,78 @@ public class RecursiveBinarySearch {
         }
     }
 
+    /**
+     * Search a number into a sorted array using the Binary Search algorithm.<br>
+     * Values are compared through {@link Utils#sortableBits(float)}, following the total order of
+     * {@link Float#compare(float, float)}: <code>-0.0f</code> is smaller than <code>0.0f</code> and
+     * NaN is greater than every other value. The array must be sorted in that order,
+     * as {@link java.util.Arrays#sort(float[])} does.<br>
+     * This is the recursive implementation.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n)</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(log<sub>2</sub>(n)</code> with
+     * <i>n</i> being <code>array.length</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int searchTotalOrder(float[] array, float target) {
+        return searchTotalOrder(array, Utils.sortableBits(target), 0, array.length - 1);
+    }
+
+    private static int searchTotalOrder(float[] array, int key, int start, int end) {
+        if (start > end) {
+            return ~start;
+        }
+        final int middle = (start + end) >>> 1;
+        final int midVal = Utils.sortableBits(array[middle]);
+        if (midVal < key) {
+            return searchTotalOrder(array, key, middle + 1, end);
+        } else if (midVal > key) {
+            return searchTotalOrder(array, key, start, middle - 1);
+        } else {
+            return middle;
+        }
+    }
+
+    /**
+     * Search a number into a sorted array using the Binary Search algorithm.<br>
+     * Values are compared through {@link Utils#sortableBits(double)}, following the total order of
+     * {@link Double#compare(double, double)}: <code>-0.0d</code> is smaller than <code>0.0d</code> and
+     * NaN is greater than every other value. The array must be sorted in that order,
+     * as {@link java.util.Arrays#sort(double[])} does.<br>
+     * This is the recursive implementation.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n)</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(log<sub>2</sub>(n)</code> with
+     * <i>n</i> being <code>array.length</code>.
+     * @param array A sorted array.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code array}.<br>
+     * Otherwise, returns its position in the array.
+     * @since 1.0
+     */
+    public static int searchTotalOrder(double[] array, double target) {
+        return searchTotalOrder(array, Utils.sortableBits(target), 0, array.length - 1);
+    }
+
+    private static int searchTotalOrder(double[] array, long key, int start, int end) {
+        if (start > end) {
+            return ~start;
+        }
+        final int middle = (start + end) >>> 1;
+        final long midVal = Utils.sortableBits(array[middle]);
+        if (midVal < key) {
+            return searchTotalOrder(array, key, middle + 1, end);
+        } else if (midVal > key) {
+            return searchTotalOrder(array, key, start, middle - 1);
+        } else {
+            return middle;
+        }
+    }
+
     /**
      * Search a number into a sorted array using the Binary Search algorithm.<br>
      * This is the recursive implementation.<br>
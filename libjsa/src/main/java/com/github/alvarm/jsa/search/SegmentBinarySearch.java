@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.Utils;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Class that implements the Binary Search algorithm over a {@link MemorySegment} using an iterative approach.<br>
+ * This algorithm assumes that the values of the segment are sorted.<br>
+ * The segment is read as a sequence of values of the given {@link ValueLayout}, so it can live off-heap,
+ * be mapped from a file and hold more than <code>2<sup>31</sup></code> elements, which is why indices are
+ * returned as <code>long</code>. The byte order of the values is the one of the layout, for instance
+ * <code>ValueLayout.JAVA_LONG.withOrder(ByteOrder.BIG_ENDIAN)</code>.
+ * The segment must be aligned to the layout, use {@code withByteAlignment(1)} for unaligned data.<br>
+ * The results are the same as {@link IterativeBinarySearch} over an array with the same values.<br>
+ * This class uses the <code>java.lang.foreign</code> API, which is a preview API in Java 21,
+ * so it needs <code>--enable-preview</code> at runtime.
+ * The rest of the library does not depend on it.<br>
+ * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+ * <i>n</i> being the number of elements in the segment.<br>
+ * The memory cost for this implementation is <code>O(1)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class SegmentBinarySearch {
+
+    /**
+     * Search a number into a sorted memory segment using the Binary Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being the number of elements in {@code segment}.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param segment A memory segment holding sorted integer values.
+     * @param layout The layout of the values, which sets their byte order.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code segment}.<br>
+     * Otherwise, returns its index in the segment.
+     * @since 1.0
+     */
+    public static long search(MemorySegment segment, ValueLayout.OfInt layout, int target) {
+        long start = 0;
+        long end = segment.byteSize() / layout.byteSize() - 1;
+        while(start <= end) {
+            long middle = (start + end) >>> 1;
+            int midVal = segment.getAtIndex(layout, middle);
+            if(target < midVal) {
+                end = middle - 1;
+            } else if (target > midVal) {
+                start = middle + 1;
+            } else {
+                return middle;
+            }
+        }
+        return ~start;
+    }
+
+    /**
+     * Search a number into a sorted memory segment using the Binary Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being the number of elements in {@code segment}.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param segment A memory segment holding sorted long values.
+     * @param layout The layout of the values, which sets their byte order.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code segment}.<br>
+     * Otherwise, returns its index in the segment.
+     * @since 1.0
+     */
+    public static long search(MemorySegment segment, ValueLayout.OfLong layout, long target) {
+        long start = 0;
+        long end = segment.byteSize() / layout.byteSize() - 1;
+        while(start <= end) {
+            long middle = (start + end) >>> 1;
+            long midVal = segment.getAtIndex(layout, middle);
+            if(target < midVal) {
+                end = middle - 1;
+            } else if (target > midVal) {
+                start = middle + 1;
+            } else {
+                return middle;
+            }
+        }
+        return ~start;
+    }
+
+    /**
+     * Search a number into a sorted memory segment using the Binary Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being the number of elements in {@code segment}.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param segment A memory segment holding sorted double values.
+     * @param layout The layout of the values, which sets their byte order.
+     * @param target The target to search for.
+     * @param epsilon The precision threshold to admit if two numbers are equal.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code segment}.<br>
+     * Otherwise, returns its index in the segment.
+     * @since 1.0
+     */
+    public static long search(MemorySegment segment, ValueLayout.OfDouble layout, double target, double epsilon) {
+        long start = 0;
+        long end = segment.byteSize() / layout.byteSize() - 1;
+        while(start <= end) {
+            long middle = (start + end) >>> 1;
+            double midVal = segment.getAtIndex(layout, middle);
+            boolean isEquals = Math.abs(target - midVal) < epsilon;
+            if(!isEquals) {
+                if(target < midVal) {
+                    end = middle - 1;
+                } else {
+                    start = middle + 1;
+                }
+            } else {
+                return middle;
+            }
+        }
+        return ~start;
+    }
+
+    /**
+     * Search a number into a sorted memory segment using the Binary Search algorithm.<br>
+     * The computational cost for this algorithm is <code>O(log<sub>2</sub>(n))</code> with
+     * <i>n</i> being the number of elements in {@code segment}.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param segment A memory segment holding sorted double values.
+     * @param layout The layout of the values, which sets their byte order.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present in {@code segment}.<br>
+     * Otherwise, returns its index in the segment.
+     * @since 1.0
+     */
+    public static long search(MemorySegment segment, ValueLayout.OfDouble layout, double target) {
+        return search(segment, layout, target, Utils.getDoubleEpsilon());
+    }
+}
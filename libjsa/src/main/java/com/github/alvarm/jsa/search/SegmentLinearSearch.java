@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.Utils;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Class that implements the Linear Search algorithm over a {@link MemorySegment}.<br>
+ * The segment is read as a sequence of values of the given {@link ValueLayout}, so it can live off-heap,
+ * be mapped from a file and hold more than <code>2<sup>31</sup></code> elements, which is why indices are
+ * returned as <code>long</code>. The byte order of the values is the one of the layout, for instance
+ * <code>ValueLayout.JAVA_LONG.withOrder(ByteOrder.BIG_ENDIAN)</code>.
+ * The segment must be aligned to the layout, use {@code withByteAlignment(1)} for unaligned data.<br>
+ * The results are the same as {@link LinearSearch} over an array with the same values.<br>
+ * This class uses the <code>java.lang.foreign</code> API, which is a preview API in Java 21,
+ * so it needs <code>--enable-preview</code> at runtime.
+ * The rest of the library does not depend on it.<br>
+ * Computational cost for this algorithm is <code>O(n)</code> with
+ * <i>n</i> being the number of elements in the segment.<br>
+ * Memory cost for this implementation is <code>O(1)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class SegmentLinearSearch {
+
+    /**
+     * Search sequentially for a target inside a memory segment.<br>
+     * Computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being the number of elements in {@code segment}.<br>
+     * Memory cost for this method is <code>O(1)</code>.
+     * @param segment A memory segment holding integer values.
+     * @param layout The layout of the values, which sets their byte order.
+     * @param target The target to search for.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>segment</code>.<br>
+     * Otherwise, it returns the index of its first occurrence.
+     * @since 1.0
+     */
+    public static long search(MemorySegment segment, ValueLayout.OfInt layout, int target) {
+        final long count = segment.byteSize() / layout.byteSize();
+        long i = 0;
+        while(i < count && segment.getAtIndex(layout, i) != target){
+            i += 1;
+        }
+        return (i >= count) ? -1 : i;
+    }
+
+    /**
+     * Search sequentially for a target inside a memory segment.<br>
+     * Computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being the number of elements in {@code segment}.<br>
+     * Memory cost for this method is <code>O(1)</code>.
+     * @param segment A memory segment holding long values.
+     * @param layout The layout of the values, which sets their byte order.
+     * @param target The target to search for.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>segment</code>.<br>
+     * Otherwise, it returns the index of its first occurrence.
+     * @since 1.0
+     */
+    public static long search(MemorySegment segment, ValueLayout.OfLong layout, long target) {
+        final long count = segment.byteSize() / layout.byteSize();
+        long i = 0;
+        while(i < count && segment.getAtIndex(layout, i) != target){
+            i += 1;
+        }
+        return (i >= count) ? -1 : i;
+    }
+
+    /**
+     * Search sequentially for a target inside a memory segment.<br>
+     * Computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being the number of elements in {@code segment}.<br>
+     * Memory cost for this method is <code>O(1)</code>.
+     * @param segment A memory segment holding double values.
+     * @param layout The layout of the values, which sets their byte order.
+     * @param target The target to search for.
+     * @param epsilon The precision threshold where we can say two numbers are equal.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>segment</code>.<br>
+     * Otherwise, it returns the index of its first occurrence.
+     * @since 1.0
+     */
+    public static long search(MemorySegment segment, ValueLayout.OfDouble layout, double target, double epsilon) {
+        final long count = segment.byteSize() / layout.byteSize();
+        long i = 0;
+        while(i < count && Math.abs(target - segment.getAtIndex(layout, i)) > epsilon){
+            i += 1;
+        }
+        return (i >= count) ? -1 : i;
+    }
+
+    /**
+     * Search sequentially for a target inside a memory segment.<br>
+     * Computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being the number of elements in {@code segment}.<br>
+     * Memory cost for this method is <code>O(1)</code>.
+     * @param segment A memory segment holding double values.
+     * @param layout The layout of the values, which sets their byte order.
+     * @param target The target to search for.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>segment</code>.<br>
+     * Otherwise, it returns the index of its first occurrence.
+     * @since 1.0
+     */
+    public static long search(MemorySegment segment, ValueLayout.OfDouble layout, double target) {
+        return search(segment, layout, target, Utils.getDoubleEpsilon());
+    }
+}
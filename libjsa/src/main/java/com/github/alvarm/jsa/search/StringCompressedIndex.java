@@ -0,0 +1,332 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Sorted String array front-coded in buckets, that can be searched without decoding it.<br>
+ * Every string is stored as its UTF-8 bytes in a single byte array. The first string of every bucket is stored
+ * whole and its position is kept in a skip index. The other strings of the bucket only store the length of the
+ * prefix they share with the previous string and the remaining bytes, so dictionaries of terms with long common
+ * prefixes use a fraction of the memory of a <code>String[]</code>, and a search does not chase a pointer per
+ * probe.<br>
+ * A search runs a binary search over the first strings of the buckets and then walks the only bucket that may hold
+ * the target, comparing raw byte ranges with {@link Arrays#mismatch(byte[], int, int, byte[], int, int)} and
+ * reusing the prefix it already matched.<br>
+ * The strings must be sorted by their UTF-8 bytes taken as unsigned values. That is the natural order of
+ * {@link String} unless the strings mix supplementary characters with characters from <i>U+E000</i> to
+ * <i>U+FFFF</i>.<br>
+ * The results are positions in the original array, with the same meaning as
+ * {@link IterativeBinarySearch#search(int[], int)}.<br>
+ * The computational cost for a search is <code>O(L * (log<sub>2</sub>(n / B) + B))</code> with
+ * <i>n</i> being the number of strings, <i>B</i> being {@link #BUCKET_SIZE} and <i>L</i> being the length of the
+ * target.<br>
+ * The memory cost for this index is <code>O(n * s)</code> bytes with <i>s</i> being the average length of the
+ * strings that is not shared with the previous one, plus 4 bytes per bucket.
+ * @since 1.0
+ * @author alvarm
+ */
+public class StringCompressedIndex {
+
+    /**
+     * Number of strings of every bucket. Only the last bucket may be shorter.
+     * @since 1.0
+     */
+    public static final int BUCKET_SIZE = 16;
+
+    private static final int BUCKET_SHIFT = 4;
+
+    private final int size;
+
+    /**
+     * Position in {@link #data} of the first string of every bucket, the skip index.
+     */
+    private final int[] bucketOffsets;
+
+    /**
+     * Front-coded strings. The first string of a bucket is stored as its length and its bytes. The other ones
+     * are stored as the shared prefix length, the suffix length and the suffix bytes. Lengths are variable-length
+     * encoded in 7 bits per byte.
+     */
+    private final byte[] data;
+
+    /**
+     * Length in bytes of the longest string.
+     */
+    private final int maxLength;
+
+    /**
+     * Build a compressed index from a sorted array.<br>
+     * The computational cost for building the index is <code>O(n * l)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>l</i> being the average length of the strings.
+     * @param array An array sorted by the UTF-8 bytes of its strings. It is not referenced by the index.
+     * @throws IndexOutOfBoundsException If the encoded strings do not fit in a byte array.
+     * @since 1.0
+     */
+    public StringCompressedIndex(String[] array) {
+        size = array.length;
+        bucketOffsets = new int[(size + BUCKET_SIZE - 1) >>> BUCKET_SHIFT];
+        byte[] buffer = new byte[Math.max(16, size)];
+        int length = 0;
+        int longest = 0;
+        byte[] previous = null;
+        for (int i = 0; i < size; i++) {
+            final byte[] term = array[i].getBytes(StandardCharsets.UTF_8);
+            longest = Math.max(longest, term.length);
+            int shared = 0;
+            if ((i & (BUCKET_SIZE - 1)) == 0) {
+                bucketOffsets[i >>> BUCKET_SHIFT] = length;
+            } else {
+                shared = Arrays.mismatch(previous, term);
+                shared = (shared < 0) ? term.length : shared;
+            }
+            final long needed = (long) length + term.length - shared + 10;
+            if (needed > buffer.length) {
+                buffer = Arrays.copyOf(buffer, (int) Math.min(Integer.MAX_VALUE - 8, 2 * needed));
+            }
+            if ((i & (BUCKET_SIZE - 1)) != 0) {
+                length = writeLength(buffer, length, shared);
+            }
+            length = writeLength(buffer, length, term.length - shared);
+            System.arraycopy(term, shared, buffer, length, term.length - shared);
+            length += term.length - shared;
+            previous = term;
+        }
+        data = Arrays.copyOf(buffer, length);
+        maxLength = longest;
+    }
+
+    private static int writeLength(byte[] buffer, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private int readLength(int position) {
+        int value = data[position] & 0x7F;
+        for (int shift = 7; data[position] < 0; shift += 7) {
+            value |= (data[++position] & 0x7F) << shift;
+        }
+        return value;
+    }
+
+    private static int lengthSize(int value) {
+        return (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * Compare the first string of a bucket with a key by their unsigned bytes.
+     */
+    private int compareFirst(int bucket, byte[] key) {
+        int position = bucketOffsets[bucket];
+        final int length = readLength(position);
+        position += lengthSize(length);
+        final int mismatch = Arrays.mismatch(data, position, position + length, key, 0, key.length);
+        if (mismatch < 0) {
+            return 0;
+        }
+        if (mismatch == length || mismatch == key.length) {
+            return length - key.length;
+        }
+        return Byte.compareUnsigned(data[position + mismatch], key[mismatch]);
+    }
+
+    /**
+     * Search a string into the index.<br>
+     * The computational cost for this algorithm is <code>O(L * (log<sub>2</sub>(n / B) + B))</code> with
+     * <i>n</i> being the number of strings, <i>B</i> being {@link #BUCKET_SIZE} and <i>L</i> being the length
+     * of the target.<br>
+     * The memory cost for this implementation is <code>O(L)</code>, to encode the target.
+     * @param target The target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present.<br>
+     * Otherwise, returns its position in the original array.
+     * @since 1.0
+     */
+    public int search(String target) {
+        return search(target.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Search the UTF-8 bytes of a string into the index.<br>
+     * The computational cost for this algorithm is <code>O(L * (log<sub>2</sub>(n / B) + B))</code> with
+     * <i>n</i> being the number of strings, <i>B</i> being {@link #BUCKET_SIZE} and <i>L</i> being
+     * <code>target.length</code>.<br>
+     * The memory cost for this implementation is <code>O(1)</code>.
+     * @param target The UTF-8 bytes of the target to search for.
+     * @return A negative value, <code>~insertionPoint</code>, if {@code target} is not present.<br>
+     * Otherwise, returns its position in the original array.
+     * @since 1.0
+     */
+    public int search(byte[] target) {
+        int low = 0;
+        int high = bucketOffsets.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = compareFirst(mid, target);
+            if (cmp == 0) {
+                return mid << BUCKET_SHIFT;
+            } else if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return (high < 0) ? ~0 : searchBucket(high, target);
+    }
+
+    /**
+     * Walk a bucket whose first string is lower than the target.<br>
+     * Only the length of the prefix shared by the target and the last decoded string is kept. A string that shares
+     * less than that with the previous one is greater than the target, one that shares more is lower, and only
+     * when both are equal its suffix has to be compared.
+     */
+    private int searchBucket(int bucket, byte[] target) {
+        int index = bucket << BUCKET_SHIFT;
+        final int to = Math.min(index + BUCKET_SIZE, size);
+        int position = bucketOffsets[bucket];
+        final int length = readLength(position);
+        position += lengthSize(length);
+        int matched = Arrays.mismatch(data, position, position + length, target, 0, target.length);
+        position += length;
+        for (index++; index < to; index++) {
+            final int shared = readLength(position);
+            position += lengthSize(shared);
+            final int suffix = readLength(position);
+            position += lengthSize(suffix);
+            if (shared < matched) {
+                return ~index;
+            }
+            if (shared == matched) {
+                final int mismatch = Arrays.mismatch(data, position, position + suffix,
+                        target, matched, target.length);
+                if (mismatch < 0) {
+                    return index;
+                }
+                if (mismatch != suffix && (matched + mismatch == target.length
+                        || Byte.compareUnsigned(data[position + mismatch], target[matched + mismatch]) > 0)) {
+                    return ~index;
+                }
+                matched += mismatch;
+            }
+            position += suffix;
+        }
+        return ~to;
+    }
+
+    /**
+     * Check if a string is in the index.
+     * @param target The target to search for.
+     * @return <code>true</code> if {@code target} is present.
+     * @since 1.0
+     */
+    public boolean contains(String target) {
+        return search(target) >= 0;
+    }
+
+    /**
+     * Get the string at a position of the original array.<br>
+     * The computational cost for this method is <code>O(B * l)</code> with <i>B</i> being {@link #BUCKET_SIZE}
+     * and <i>l</i> being the average length of the strings.
+     * @param index A position between <i>0</i> and {@link #size()}, exclusive.
+     * @return The string at position {@code index}.
+     * @throws IndexOutOfBoundsException If {@code index} is out of range.
+     * @since 1.0
+     */
+    public String get(int index) {
+        Objects.checkIndex(index, size);
+        final byte[] term = new byte[maxLength];
+        final int length = decode(index >>> BUCKET_SHIFT, index, term, null, 0);
+        return new String(term, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decode a bucket until a position, optionally storing every string into an array.
+     * @return The length of the string at position {@code index}, left in {@code term}.
+     */
+    private int decode(int bucket, int index, byte[] term, String[] out, int outOffset) {
+        int position = bucketOffsets[bucket];
+        int length = readLength(position);
+        position += lengthSize(length);
+        System.arraycopy(data, position, term, 0, length);
+        position += length;
+        int i = bucket << BUCKET_SHIFT;
+        if (out != null) {
+            out[i - outOffset] = new String(term, 0, length, StandardCharsets.UTF_8);
+        }
+        for (i++; i <= index; i++) {
+            final int shared = readLength(position);
+            position += lengthSize(shared);
+            final int suffix = readLength(position);
+            position += lengthSize(suffix);
+            System.arraycopy(data, position, term, shared, suffix);
+            position += suffix;
+            length = shared + suffix;
+            if (out != null) {
+                out[i - outOffset] = new String(term, 0, length, StandardCharsets.UTF_8);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Decode every string of the index.
+     * @return A new array equal to the original array.
+     * @since 1.0
+     */
+    public String[] toArray() {
+        final String[] array = new String[size];
+        final byte[] term = new byte[maxLength];
+        for (int bucket = 0; bucket < bucketOffsets.length; bucket++) {
+            decode(bucket, Math.min((bucket + 1) << BUCKET_SHIFT, size) - 1, term, array, 0);
+        }
+        return array;
+    }
+
+    /**
+     * @return The number of strings of the index.
+     * @since 1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of buckets of the index.
+     * @since 1.0
+     */
+    public int buckets() {
+        return bucketOffsets.length;
+    }
+
+    /**
+     * Approximate memory used by the index.
+     * @return The size in bytes of the skip index and the front-coded strings.
+     * @since 1.0
+     */
+    public long memoryFootprint() {
+        return (long) bucketOffsets.length * Integer.BYTES + data.length;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counter of events split in one cell per thread.<br>
+ * Every thread increments only its own cell, without atomic instructions or fences, and each cell is
+ * surrounded by padding so that two cells never share a cache line. Reading the total sums every cell,
+ * so it is much slower than incrementing and only sees increments that are already visible to the reader.<br>
+ * The cells of threads that have terminated are folded into a base value when a thread registers or the total is
+ * read, so pools that keep replacing their threads do not make the counter grow.
+ * @since 1.0
+ * @author alvarm
+ */
+final class ThreadCounter {
+
+    private final ThreadLocal<Cell> cells = ThreadLocal.withInitial(this::register);
+
+    /**
+     * Cells of the threads that may still be alive, guarded by itself.
+     */
+    private final List<Cell> registered = new ArrayList<>();
+
+    /**
+     * Sum of the cells of the threads that have terminated, guarded by {@link #registered}.
+     */
+    private long base;
+
+    private Cell register() {
+        final Cell cell = new Cell(Thread.currentThread());
+        synchronized (registered) {
+            expunge();
+            registered.add(cell);
+        }
+        return cell;
+    }
+
+    /**
+     * Fold the cells of the threads that have terminated into {@link #base}.<br>
+     * Detecting that a thread has terminated makes all its increments visible, so no increment is lost.
+     */
+    private void expunge() {
+        int alive = 0;
+        for (int i = 0; i < registered.size(); i++) {
+            final Cell cell = registered.get(i);
+            final Thread owner = cell.owner.get();
+            if (owner == null || !owner.isAlive()) {
+                base += cell.value();
+            } else {
+                registered.set(alive++, cell);
+            }
+        }
+        registered.subList(alive, registered.size()).clear();
+    }
+
+    /**
+     * Add one to the cell of the calling thread.
+     */
+    void increment() {
+        cells.get().increment();
+    }
+
+    /**
+     * @return The number of increments of the calling thread.
+     */
+    long threadValue() {
+        return cells.get().value();
+    }
+
+    /**
+     * @return The number of increments of every thread.
+     */
+    long sum() {
+        synchronized (registered) {
+            expunge();
+            long sum = base;
+            for (Cell cell : registered) {
+                sum += cell.value();
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Fields before the value, so that it does not share a cache line with the object header or previous objects.
+     */
+    @SuppressWarnings("unused")
+    private static class LeftPadding {
+        long p01, p02, p03, p04, p05, p06, p07, p08;
+        long p09, p10, p11, p12, p13, p14, p15, p16;
+    }
+
+    private static class Value extends LeftPadding {
+        long value;
+    }
+
+    /**
+     * Fields after the value, so that it does not share a cache line with the next objects.
+     * Superclass fields are always laid out first, so the value stays between both paddings.
+     */
+    @SuppressWarnings("unused")
+    private static class Cell extends Value {
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(Value.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        long q01, q02, q03, q04, q05, q06, q07, q08;
+        long q09, q10, q11, q12, q13, q14, q15, q16;
+
+        private final WeakReference<Thread> owner;
+
+        private Cell(Thread owner) {
+            this.owner = new WeakReference<>(owner);
+        }
+
+        private void increment() {
+            VALUE.setOpaque(this, (long) VALUE.getOpaque(this) + 1L);
+        }
+
+        private long value() {
+            return (long) VALUE.getOpaque(this);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.Utils;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Class that implements the Linear Search algorithm using SIMD instructions.<br>
+ * The array is compared against the target one vector at a time through the
+ * <code>jdk.incubator.vector</code> API, and the remaining elements are compared one by one.<br>
+ * The incubator module must be added to the JVM with <code>--add-modules jdk.incubator.vector</code>,
+ * when it is not present every method falls back to {@link LinearSearch}.<br>
+ * The results are the same as {@link LinearSearch}, the first occurrence of the target is returned.<br>
+ * The computational cost for this algorithm is <code>O(n)</code> with
+ * <i>n</i> being <code>array.length</code>.<br>
+ * The memory cost for this implementation is <code>O(1)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class VectorLinearSearch {
+
+    private static final boolean VECTOR_ENABLED = ModuleLayer.boot()
+            .findModule("jdk.incubator.vector")
+            .isPresent();
+
+    /**
+     * Tells whether searches run on the Vector API or on the scalar fallback.
+     * @return <i>true</i> if the <code>jdk.incubator.vector</code> module is present.
+     * @since 1.0
+     */
+    public static boolean isVectorized() {
+        return VECTOR_ENABLED;
+    }
+
+    /**
+     * Search sequentially for a target inside an array, several elements at a time.<br>
+     * Computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * Memory cost for this method is <code>O(1)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(int[] array, int target) {
+        return VECTOR_ENABLED ? Simd.search(array, target) : LinearSearch.search(array, target);
+    }
+
+    /**
+     * Search sequentially for a target inside an array, several elements at a time.<br>
+     * Computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * Memory cost for this method is <code>O(1)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(long[] array, long target) {
+        return VECTOR_ENABLED ? Simd.search(array, target) : LinearSearch.search(array, target);
+    }
+
+    /**
+     * Search sequentially for a target inside an array, several elements at a time.<br>
+     * Computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * Memory cost for this method is <code>O(1)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @param epsilon The precision threshold where we can say two numbers are equal.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(float[] array, float target, float epsilon) {
+        return VECTOR_ENABLED ? Simd.search(array, target, epsilon) : LinearSearch.search(array, target, epsilon);
+    }
+
+    /**
+     * Search sequentially for a target inside an array, several elements at a time.<br>
+     * Computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * Memory cost for this method is <code>O(1)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(float[] array, float target) {
+        return search(array, target, Utils.getFloatEpsilon());
+    }
+
+    /**
+     * Search sequentially for a target inside an array, several elements at a time.<br>
+     * Computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * Memory cost for this method is <code>O(1)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @param epsilon The precision threshold where we can say two numbers are equal.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(double[] array, double target, double epsilon) {
+        return VECTOR_ENABLED ? Simd.search(array, target, epsilon) : LinearSearch.search(array, target, epsilon);
+    }
+
+    /**
+     * Search sequentially for a target inside an array, several elements at a time.<br>
+     * Computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * Memory cost for this method is <code>O(1)</code>.
+     * @param array An array.
+     * @param target The target to search for.
+     * @return <i>-1</i> if <code>target</code> is not present in <code>array</code>.<br>
+     * Otherwise, it returns its first position in the array.
+     * @since 1.0
+     */
+    public static int search(double[] array, double target) {
+        return search(array, target, Utils.getDoubleEpsilon());
+    }
+
+    /**
+     * Vector API implementations.<br>
+     * This class is only loaded when the incubator module is present,
+     * so {@link VectorLinearSearch} can be used without it.
+     */
+    private static class Simd {
+        private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+
+        private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+
+        private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+
+        private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+        private static int search(int[] array, int target) {
+            final IntVector targets = IntVector.broadcast(INT_SPECIES, target);
+            final int bound = INT_SPECIES.loopBound(array.length);
+            int i = 0;
+            for (; i < bound; i += INT_SPECIES.length()) {
+                VectorMask<Integer> found = IntVector.fromArray(INT_SPECIES, array, i)
+                        .compare(VectorOperators.EQ, targets);
+                if (found.anyTrue()) {
+                    return i + found.firstTrue();
+                }
+            }
+            for (; i < array.length; i++) {
+                if (array[i] == target) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static int search(long[] array, long target) {
+            final LongVector targets = LongVector.broadcast(LONG_SPECIES, target);
+            final int bound = LONG_SPECIES.loopBound(array.length);
+            int i = 0;
+            for (; i < bound; i += LONG_SPECIES.length()) {
+                VectorMask<Long> found = LongVector.fromArray(LONG_SPECIES, array, i)
+                        .compare(VectorOperators.EQ, targets);
+                if (found.anyTrue()) {
+                    return i + found.firstTrue();
+                }
+            }
+            for (; i < array.length; i++) {
+                if (array[i] == target) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        // LinearSearch keeps going while the distance is greater than epsilon,
+        // so anything that is not greater (including NaN distances) is a match.
+        private static int search(float[] array, float target, float epsilon) {
+            final FloatVector targets = FloatVector.broadcast(FLOAT_SPECIES, target);
+            final int bound = FLOAT_SPECIES.loopBound(array.length);
+            int i = 0;
+            for (; i < bound; i += FLOAT_SPECIES.length()) {
+                VectorMask<Float> found = targets.sub(FloatVector.fromArray(FLOAT_SPECIES, array, i))
+                        .abs()
+                        .compare(VectorOperators.GT, epsilon)
+                        .not();
+                if (found.anyTrue()) {
+                    return i + found.firstTrue();
+                }
+            }
+            for (; i < array.length; i++) {
+                if (!(Math.abs(target - array[i]) > epsilon)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static int search(double[] array, double target, double epsilon) {
+            final DoubleVector targets = DoubleVector.broadcast(DOUBLE_SPECIES, target);
+            final int bound = DOUBLE_SPECIES.loopBound(array.length);
+            int i = 0;
+            for (; i < bound; i += DOUBLE_SPECIES.length()) {
+                VectorMask<Double> found = targets.sub(DoubleVector.fromArray(DOUBLE_SPECIES, array, i))
+                        .abs()
+                        .compare(VectorOperators.GT, epsilon)
+                        .not();
+                if (found.anyTrue()) {
+                    return i + found.firstTrue();
+                }
+            }
+            for (; i < array.length; i++) {
+                if (!(Math.abs(target - array[i]) > epsilon)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.sorting;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class that implements a stable Merge Sort algorithm for object arrays using several threads.<br>
+ * The array is halved recursively and the halves are sorted in parallel by the threads of a
+ * {@link ForkJoinPool}. Ranges shorter than {@link #INSERTION_THRESHOLD} are sorted with a binary insertion
+ * sort, and two sorted halves are not merged when the last element of the first one is not greater than the
+ * first element of the second one, so runs that are already sorted cost a single comparison.<br>
+ * A single scratch buffer of the length of the array is allocated. Every level of the recursion moves the
+ * elements between the array and the buffer, so no merge has to copy its input first. Merges longer than
+ * {@link #SEQUENTIAL_THRESHOLD} are split around the median of the longer run and merged in parallel.<br>
+ * Equal elements keep their relative order.<br>
+ * The computational cost for this algorithm is <code>O(n * log<sub>2</sub>(n) / p)</code> with
+ * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+ * The memory cost for this implementation is <code>O(n)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class ParallelMergeSort {
+
+    /**
+     * Maximum length of a range to be sorted with binary insertion sort.
+     * @since 1.0
+     */
+    public static final int INSERTION_THRESHOLD = 32;
+
+    /**
+     * Minimum length of a range to be sorted or merged in parallel.
+     * @since 1.0
+     */
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    /**
+     * Sort an array in natural order using the threads of the common pool.<br>
+     * The computational cost for this algorithm is <code>O(n * log<sub>2</sub>(n) / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array The array to sort.
+     * @since 1.0
+     */
+    public static <E extends Comparable<E>> void sort(E[] array) {
+        sort(array, Comparator.naturalOrder(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort an array in natural order using the threads of {@code pool}.<br>
+     * The computational cost for this algorithm is <code>O(n * log<sub>2</sub>(n) / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array The array to sort.
+     * @param pool The pool that runs the sort.
+     * @since 1.0
+     */
+    public static <E extends Comparable<E>> void sort(E[] array, ForkJoinPool pool) {
+        sort(array, Comparator.naturalOrder(), pool);
+    }
+
+    /**
+     * Sort an array with a comparator using the threads of the common pool.<br>
+     * The computational cost for this algorithm is <code>O(n * log<sub>2</sub>(n) / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array The array to sort.
+     * @param comparator The comparator that defines the order of the elements.
+     * @since 1.0
+     */
+    public static <E> void sort(E[] array, Comparator<E> comparator) {
+        sort(array, comparator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort an array with a comparator using the threads of {@code pool}.<br>
+     * The computational cost for this algorithm is <code>O(n * log<sub>2</sub>(n) / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param <E> The type for the elements in the array.
+     * @param array The array to sort.
+     * @param comparator The comparator that defines the order of the elements.
+     * @param pool The pool that runs the sort.
+     * @since 1.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> void sort(E[] array, Comparator<E> comparator, ForkJoinPool pool) {
+        if (array.length <= INSERTION_THRESHOLD) {
+            insertionSort(array, comparator, 0, array.length);
+            return;
+        }
+        final E[] buffer = (E[]) new Object[array.length];
+        if (array.length < SEQUENTIAL_THRESHOLD || pool.getParallelism() < 2) {
+            sort(array, buffer, array, comparator, 0, array.length);
+        } else {
+            pool.invoke(new SortTask<>(array, buffer, array, comparator, 0, array.length));
+        }
+    }
+
+    /**
+     * Sorts the range of {@code original} into {@code destination}, using {@code source} as scratch space.<br>
+     * {@code source} and {@code destination} are the array and the buffer, in any order.
+     */
+    private static <E> void sort(E[] original, E[] source, E[] destination, Comparator<E> comparator,
+                                 int from, int to) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            if (destination != original) {
+                System.arraycopy(original, from, destination, from, to - from);
+            }
+            insertionSort(destination, comparator, from, to);
+            return;
+        }
+        final int middle = (from + to) >>> 1;
+        sort(original, destination, source, comparator, from, middle);
+        sort(original, destination, source, comparator, middle, to);
+        merge(source, destination, comparator, from, middle, to);
+    }
+
+    /**
+     * Merges the sorted runs <code>[from, middle)</code> and <code>[middle, to)</code> of {@code source}
+     * into the same range of {@code destination}.
+     */
+    private static <E> void merge(E[] source, E[] destination, Comparator<E> comparator,
+                                  int from, int middle, int to) {
+        if (comparator.compare(source[middle - 1], source[middle]) <= 0) {
+            System.arraycopy(source, from, destination, from, to - from);
+            return;
+        }
+        merge(source, destination, comparator, from, middle, middle, to, from);
+    }
+
+    /**
+     * Merges the sorted runs <code>[leftFrom, leftTo)</code> and <code>[rightFrom, rightTo)</code> of
+     * {@code source} into {@code destination} starting at {@code position}.
+     */
+    private static <E> void merge(E[] source, E[] destination, Comparator<E> comparator,
+                                  int leftFrom, int leftTo, int rightFrom, int rightTo, int position) {
+        int left = leftFrom;
+        int right = rightFrom;
+        while (left < leftTo && right < rightTo) {
+            if (comparator.compare(source[left], source[right]) <= 0) {
+                destination[position++] = source[left++];
+            } else {
+                destination[position++] = source[right++];
+            }
+        }
+        System.arraycopy(source, left, destination, position, leftTo - left);
+        System.arraycopy(source, right, destination, position + leftTo - left, rightTo - right);
+    }
+
+    /**
+     * Sorts a range with binary insertion sort.
+     * Every element is inserted after the elements equal to it, so the sort is stable.
+     */
+    private static <E> void insertionSort(E[] array, Comparator<E> comparator, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            final E element = array[i];
+            if (comparator.compare(array[i - 1], element) <= 0) {
+                continue;
+            }
+            int start = from;
+            int end = i - 1;
+            while (start < end) {
+                final int middle = (start + end) >>> 1;
+                if (comparator.compare(array[middle], element) <= 0) {
+                    start = middle + 1;
+                } else {
+                    end = middle;
+                }
+            }
+            System.arraycopy(array, start, array, start + 1, i - start);
+            array[start] = element;
+        }
+    }
+
+    /**
+     * First position of the range whose element is not smaller than {@code element}.
+     */
+    private static <E> int lowerBound(E[] array, Comparator<E> comparator, int from, int to, E element) {
+        while (from < to) {
+            final int middle = (from + to) >>> 1;
+            if (comparator.compare(array[middle], element) < 0) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * First position of the range whose element is greater than {@code element}.
+     */
+    private static <E> int upperBound(E[] array, Comparator<E> comparator, int from, int to, E element) {
+        while (from < to) {
+            final int middle = (from + to) >>> 1;
+            if (comparator.compare(array[middle], element) <= 0) {
+                from = middle + 1;
+            } else {
+                to = middle;
+            }
+        }
+        return from;
+    }
+
+    private static class SortTask<E> extends RecursiveAction {
+        private final E[] original;
+        private final E[] source;
+        private final E[] destination;
+        private final Comparator<E> comparator;
+        private final int from;
+        private final int to;
+
+        private SortTask(E[] original, E[] source, E[] destination, Comparator<E> comparator, int from, int to) {
+            this.original = original;
+            this.source = source;
+            this.destination = destination;
+            this.comparator = comparator;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < SEQUENTIAL_THRESHOLD) {
+                sort(original, source, destination, comparator, from, to);
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            SortTask<E> upper = new SortTask<>(original, destination, source, comparator, middle, to);
+            upper.fork();
+            new SortTask<>(original, destination, source, comparator, from, middle).compute();
+            upper.join();
+            if (comparator.compare(source[middle - 1], source[middle]) <= 0) {
+                new CopyTask<>(source, destination, from, to).compute();
+            } else {
+                new MergeTask<>(source, destination, comparator, from, middle, middle, to, from).compute();
+            }
+        }
+    }
+
+    private static class MergeTask<E> extends RecursiveAction {
+        private final E[] source;
+        private final E[] destination;
+        private final Comparator<E> comparator;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final int position;
+
+        private MergeTask(E[] source, E[] destination, Comparator<E> comparator,
+                          int leftFrom, int leftTo, int rightFrom, int rightTo, int position) {
+            this.source = source;
+            this.destination = destination;
+            this.comparator = comparator;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.position = position;
+        }
+
+        @Override
+        protected void compute() {
+            final int leftLength = leftTo - leftFrom;
+            final int rightLength = rightTo - rightFrom;
+            if (leftLength + rightLength < SEQUENTIAL_THRESHOLD || leftLength == 0 || rightLength == 0) {
+                merge(source, destination, comparator, leftFrom, leftTo, rightFrom, rightTo, position);
+                return;
+            }
+            // Equal elements of the left run go before those of the right run, so the right run is split
+            // before its elements equal to a left pivot and the left run after its elements equal to a right pivot.
+            final int leftSplit;
+            final int rightSplit;
+            if (leftLength >= rightLength) {
+                leftSplit = (leftFrom + leftTo) >>> 1;
+                rightSplit = lowerBound(source, comparator, rightFrom, rightTo, source[leftSplit]);
+            } else {
+                rightSplit = (rightFrom + rightTo) >>> 1;
+                leftSplit = upperBound(source, comparator, leftFrom, leftTo, source[rightSplit]);
+            }
+            final int split = position + (leftSplit - leftFrom) + (rightSplit - rightFrom);
+            MergeTask<E> upper = new MergeTask<>(source, destination, comparator,
+                    leftSplit, leftTo, rightSplit, rightTo, split);
+            upper.fork();
+            new MergeTask<>(source, destination, comparator,
+                    leftFrom, leftSplit, rightFrom, rightSplit, position).compute();
+            upper.join();
+        }
+    }
+
+    private static class CopyTask<E> extends RecursiveAction {
+        private final E[] source;
+        private final E[] destination;
+        private final int from;
+        private final int to;
+
+        private CopyTask(E[] source, E[] destination, int from, int to) {
+            this.source = source;
+            this.destination = destination;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < SEQUENTIAL_THRESHOLD) {
+                System.arraycopy(source, from, destination, from, to - from);
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            CopyTask<E> upper = new CopyTask<>(source, destination, middle, to);
+            upper.fork();
+            new CopyTask<>(source, destination, from, middle).compute();
+            upper.join();
+        }
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.sorting;
+
+import com.github.alvarm.jsa.arrays.Utils;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class that implements the LSD Radix Sort algorithm using several threads.<br>
+ * The array is split into one chunk per thread of a {@link ForkJoinPool}. For every digit each chunk
+ * counts its own values into a private histogram, the histograms are turned into offsets ordered by digit and
+ * then by chunk, and each chunk scatters its values to its own offsets. No two threads write to the same
+ * position and the relative order of equal values is kept, so every pass is stable like in {@link RadixSort}.<br>
+ * Arrays shorter than {@link #SEQUENTIAL_THRESHOLD} are sorted with {@link RadixSort} in the calling thread.<br>
+ * The computational cost for this algorithm is <code>O(w * n / p)</code> with
+ * <i>n</i> being <code>array.length</code>, <i>w</i> being the number of bytes of the type and
+ * <i>p</i> being the parallelism of the pool.<br>
+ * The memory cost for this implementation is <code>O(n)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class ParallelRadixSort {
+
+    /**
+     * Minimum length of an array to be sorted in parallel, and minimum length of every chunk.
+     * @since 1.0
+     */
+    public static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    /**
+     * Sort an array using the LSD Radix Sort algorithm with the threads of the common pool.<br>
+     * The computational cost for this algorithm is <code>O(4 * n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param array The array to sort.
+     * @since 1.0
+     */
+    public static void sort(int[] array) {
+        sort(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort an array using the LSD Radix Sort algorithm with the threads of {@code pool}.<br>
+     * The computational cost for this algorithm is <code>O(4 * n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param array The array to sort.
+     * @param pool The pool that runs the sort.
+     * @since 1.0
+     */
+    public static void sort(int[] array, ForkJoinPool pool) {
+        final int chunks = chunks(array.length, pool);
+        if (chunks < 2) {
+            RadixSort.sort(array);
+            return;
+        }
+        final int[] sorted = sort(array, new int[array.length], chunks, pool);
+        if (sorted != array) {
+            run(pool, chunks, array.length, (from, to) -> System.arraycopy(sorted, from, array, from, to - from));
+        }
+    }
+
+    /**
+     * Sort an array using the LSD Radix Sort algorithm with the threads of the common pool.<br>
+     * The computational cost for this algorithm is <code>O(8 * n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param array The array to sort.
+     * @since 1.0
+     */
+    public static void sort(long[] array) {
+        sort(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort an array using the LSD Radix Sort algorithm with the threads of {@code pool}.<br>
+     * The computational cost for this algorithm is <code>O(8 * n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param array The array to sort.
+     * @param pool The pool that runs the sort.
+     * @since 1.0
+     */
+    public static void sort(long[] array, ForkJoinPool pool) {
+        final int chunks = chunks(array.length, pool);
+        if (chunks < 2) {
+            RadixSort.sort(array);
+            return;
+        }
+        final long[] sorted = sort(array, new long[array.length], chunks, pool);
+        if (sorted != array) {
+            run(pool, chunks, array.length, (from, to) -> System.arraycopy(sorted, from, array, from, to - from));
+        }
+    }
+
+    /**
+     * Sort an array using the LSD Radix Sort algorithm with the threads of the common pool.<br>
+     * The values are sorted as {@link Arrays#sort(float[])} does.<br>
+     * The computational cost for this algorithm is <code>O(4 * n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param array The array to sort.
+     * @since 1.0
+     */
+    public static void sort(float[] array) {
+        sort(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort an array using the LSD Radix Sort algorithm with the threads of {@code pool}.<br>
+     * The values are sorted as {@link Arrays#sort(float[])} does.<br>
+     * The computational cost for this algorithm is <code>O(4 * n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param array The array to sort.
+     * @param pool The pool that runs the sort.
+     * @since 1.0
+     */
+    public static void sort(float[] array, ForkJoinPool pool) {
+        final int chunks = chunks(array.length, pool);
+        if (chunks < 2) {
+            RadixSort.sort(array);
+            return;
+        }
+        final int[] keys = new int[array.length];
+        run(pool, chunks, array.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                keys[i] = Utils.sortableBits(array[i]);
+            }
+        });
+        final int[] sorted = sort(keys, new int[array.length], chunks, pool);
+        run(pool, chunks, array.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                array[i] = Utils.fromSortableBits(sorted[i]);
+            }
+        });
+    }
+
+    /**
+     * Sort an array using the LSD Radix Sort algorithm with the threads of the common pool.<br>
+     * The values are sorted as {@link Arrays#sort(double[])} does.<br>
+     * The computational cost for this algorithm is <code>O(8 * n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param array The array to sort.
+     * @since 1.0
+     */
+    public static void sort(double[] array) {
+        sort(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sort an array using the LSD Radix Sort algorithm with the threads of {@code pool}.<br>
+     * The values are sorted as {@link Arrays#sort(double[])} does.<br>
+     * The computational cost for this algorithm is <code>O(8 * n / p)</code> with
+     * <i>n</i> being <code>array.length</code> and <i>p</i> being the parallelism of the pool.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param array The array to sort.
+     * @param pool The pool that runs the sort.
+     * @since 1.0
+     */
+    public static void sort(double[] array, ForkJoinPool pool) {
+        final int chunks = chunks(array.length, pool);
+        if (chunks < 2) {
+            RadixSort.sort(array);
+            return;
+        }
+        final long[] keys = new long[array.length];
+        run(pool, chunks, array.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                keys[i] = Utils.sortableBits(array[i]);
+            }
+        });
+        final long[] sorted = sort(keys, new long[array.length], chunks, pool);
+        run(pool, chunks, array.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                array[i] = Utils.fromSortableBits(sorted[i]);
+            }
+        });
+    }
+
+    /**
+     * Sorts the values of {@code array}, using {@code buffer} as the destination of every other pass.
+     * @return The array, either {@code array} or {@code buffer}, holding the sorted values.
+     */
+    private static int[] sort(int[] array, int[] buffer, int chunks, ForkJoinPool pool) {
+        final int[][] histograms = new int[chunks][RadixSort.RADIX];
+        int[] source = array;
+        int[] destination = buffer;
+        for (int shift = 0; shift < Integer.SIZE; shift += RadixSort.DIGIT_BITS) {
+            final int digitShift = shift;
+            final int[] from = source;
+            final int[] to = destination;
+            run(pool, chunks, array.length, (chunk, start, end) -> {
+                final int[] histogram = histograms[chunk];
+                Arrays.fill(histogram, 0);
+                for (int i = start; i < end; i++) {
+                    histogram[RadixSort.digit(from[i], digitShift)]++;
+                }
+            });
+            if (!toOffsets(histograms, array.length)) {
+                continue;
+            }
+            run(pool, chunks, array.length, (chunk, start, end) -> {
+                final int[] offsets = histograms[chunk];
+                for (int i = start; i < end; i++) {
+                    final int value = from[i];
+                    to[offsets[RadixSort.digit(value, digitShift)]++] = value;
+                }
+            });
+            source = to;
+            destination = from;
+        }
+        return source;
+    }
+
+    /**
+     * Sorts the values of {@code array}, using {@code buffer} as the destination of every other pass.
+     * @return The array, either {@code array} or {@code buffer}, holding the sorted values.
+     */
+    private static long[] sort(long[] array, long[] buffer, int chunks, ForkJoinPool pool) {
+        final int[][] histograms = new int[chunks][RadixSort.RADIX];
+        long[] source = array;
+        long[] destination = buffer;
+        for (int shift = 0; shift < Long.SIZE; shift += RadixSort.DIGIT_BITS) {
+            final int digitShift = shift;
+            final long[] from = source;
+            final long[] to = destination;
+            run(pool, chunks, array.length, (chunk, start, end) -> {
+                final int[] histogram = histograms[chunk];
+                Arrays.fill(histogram, 0);
+                for (int i = start; i < end; i++) {
+                    histogram[RadixSort.digit(from[i], digitShift)]++;
+                }
+            });
+            if (!toOffsets(histograms, array.length)) {
+                continue;
+            }
+            run(pool, chunks, array.length, (chunk, start, end) -> {
+                final int[] offsets = histograms[chunk];
+                for (int i = start; i < end; i++) {
+                    final long value = from[i];
+                    to[offsets[RadixSort.digit(value, digitShift)]++] = value;
+                }
+            });
+            source = to;
+            destination = from;
+        }
+        return source;
+    }
+
+    /**
+     * Replaces the per chunk counts of every digit by the position where the chunk writes its first value
+     * with that digit.
+     * @return <code>false</code> if all the values share the same digit, so the pass can be skipped.
+     */
+    private static boolean toOffsets(int[][] histograms, int length) {
+        int total = 0;
+        for (int digit = 0; digit < RadixSort.RADIX; digit++) {
+            final int start = total;
+            for (int[] histogram : histograms) {
+                final int count = histogram[digit];
+                histogram[digit] = total;
+                total += count;
+            }
+            if (total - start == length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int chunks(int length, ForkJoinPool pool) {
+        return Math.min(pool.getParallelism(), length / SEQUENTIAL_THRESHOLD);
+    }
+
+    private static void run(ForkJoinPool pool, int chunks, int length, RangeTask task) {
+        run(pool, chunks, length, (chunk, start, end) -> task.run(start, end));
+    }
+
+    private static void run(ForkJoinPool pool, int chunks, int length, ChunkTask task) {
+        pool.invoke(new ChunkAction(task, chunks, length, 0, chunks));
+    }
+
+    @FunctionalInterface
+    private interface RangeTask {
+        /**
+         * @param start The (inclusive) starting position of the chunk.
+         * @param end The (exclusive) ending position of the chunk.
+         */
+        void run(int start, int end);
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        /**
+         * @param chunk The index of the chunk.
+         * @param start The (inclusive) starting position of the chunk.
+         * @param end The (exclusive) ending position of the chunk.
+         */
+        void run(int chunk, int start, int end);
+    }
+
+    private static class ChunkAction extends RecursiveAction {
+        private final ChunkTask task;
+        private final int chunks;
+        private final int length;
+        private final int from;
+        private final int to;
+
+        private ChunkAction(ChunkTask task, int chunks, int length, int from, int to) {
+            this.task = task;
+            this.chunks = chunks;
+            this.length = length;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                final int middle = (from + to) >>> 1;
+                ChunkAction upper = new ChunkAction(task, chunks, length, middle, to);
+                upper.fork();
+                new ChunkAction(task, chunks, length, from, middle).compute();
+                upper.join();
+                return;
+            }
+            task.run(from, start(from), start(from + 1));
+        }
+
+        private int start(int chunk) {
+            return (int) ((long) length * chunk / chunks);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.sorting;
+
+import com.github.alvarm.jsa.arrays.Utils;
+
+import java.util.Arrays;
+
+/**
+ * Class that implements the least significant digit (LSD) Radix Sort algorithm for primitive arrays.<br>
+ * The values are distributed by one 8-bit digit at a time, from the least to the most significant one,
+ * with a counting pass followed by a stable scatter into a buffer of the same length.
+ * The counts of every digit are gathered in a single read of the array before the first scatter,
+ * and a digit is skipped when all the values share it.<br>
+ * Signed values are ordered by flipping their sign bit, and floats and doubles are first mapped with
+ * {@link Utils#sortableBits(double)}, so the result is the same as {@link Arrays#sort(double[])}:
+ * <code>-0.0</code> is placed before <code>0.0</code> and NaN values are placed at the end,
+ * all of them with the canonical NaN bit pattern.<br>
+ * Arrays shorter than {@link #SMALL_ARRAY_THRESHOLD} are sorted with {@link Arrays#sort(int[])}.<br>
+ * The computational cost for this algorithm is <code>O(w * n)</code> with
+ * <i>n</i> being <code>array.length</code> and <i>w</i> being the number of bytes of the type.<br>
+ * The memory cost for this implementation is <code>O(n)</code>.
+ * @since 1.0
+ * @author alvarm
+ */
+public class RadixSort {
+
+    /**
+     * Arrays shorter than this length are sorted with {@link Arrays#sort(int[])} instead.
+     * @since 1.0
+     */
+    public static final int SMALL_ARRAY_THRESHOLD = 1 << 8;
+
+    static final int DIGIT_BITS = 8;
+
+    static final int RADIX = 1 << DIGIT_BITS;
+
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    /**
+     * Sort an array using the LSD Radix Sort algorithm.<br>
+     * The computational cost for this algorithm is <code>O(4 * n)</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param array The array to sort.
+     * @since 1.0
+     */
+    public static void sort(int[] array) {
+        if (array.length < SMALL_ARRAY_THRESHOLD) {
+            Arrays.sort(array);
+            return;
+        }
+        final int[] sorted = sort(array, new int[array.length]);
+        if (sorted != array) {
+            System.arraycopy(sorted, 0, array, 0, array.length);
+        }
+    }
+
+    /**
+     * Sort an array using the LSD Radix Sort algorithm.<br>
+     * The computational cost for this algorithm is <code>O(8 * n)</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param array The array to sort.
+     * @since 1.0
+     */
+    public static void sort(long[] array) {
+        if (array.length < SMALL_ARRAY_THRESHOLD) {
+            Arrays.sort(array);
+            return;
+        }
+        final long[] sorted = sort(array, new long[array.length]);
+        if (sorted != array) {
+            System.arraycopy(sorted, 0, array, 0, array.length);
+        }
+    }
+
+    /**
+     * Sort an array using the LSD Radix Sort algorithm.<br>
+     * The values are sorted as {@link Arrays#sort(float[])} does.<br>
+     * The computational cost for this algorithm is <code>O(4 * n)</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param array The array to sort.
+     * @since 1.0
+     */
+    public static void sort(float[] array) {
+        if (array.length < SMALL_ARRAY_THRESHOLD) {
+            Arrays.sort(array);
+            return;
+        }
+        final int[] sorted = sort(Utils.sortableBits(array), new int[array.length]);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = Utils.fromSortableBits(sorted[i]);
+        }
+    }
+
+    /**
+     * Sort an array using the LSD Radix Sort algorithm.<br>
+     * The values are sorted as {@link Arrays#sort(double[])} does.<br>
+     * The computational cost for this algorithm is <code>O(8 * n)</code> with
+     * <i>n</i> being <code>array.length</code>.<br>
+     * The memory cost for this implementation is <code>O(n)</code>.
+     * @param array The array to sort.
+     * @since 1.0
+     */
+    public static void sort(double[] array) {
+        if (array.length < SMALL_ARRAY_THRESHOLD) {
+            Arrays.sort(array);
+            return;
+        }
+        final long[] sorted = sort(Utils.sortableBits(array), new long[array.length]);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = Utils.fromSortableBits(sorted[i]);
+        }
+    }
+
+    /**
+     * Sorts the values of {@code array}, using {@code buffer} as the destination of every other pass.
+     * @return The array, either {@code array} or {@code buffer}, holding the sorted values.
+     */
+    private static int[] sort(int[] array, int[] buffer) {
+        final int passes = Integer.SIZE / DIGIT_BITS;
+        final int[][] counts = new int[passes][RADIX];
+        for (int value : array) {
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][digit(value, pass * DIGIT_BITS)]++;
+            }
+        }
+        int[] source = array;
+        int[] destination = buffer;
+        for (int pass = 0; pass < passes; pass++) {
+            final int shift = pass * DIGIT_BITS;
+            final int[] offsets = counts[pass];
+            if (offsets[digit(source[0], shift)] == source.length) {
+                continue;
+            }
+            toOffsets(offsets);
+            for (int value : source) {
+                destination[offsets[digit(value, shift)]++] = value;
+            }
+            final int[] swap = source;
+            source = destination;
+            destination = swap;
+        }
+        return source;
+    }
+
+    /**
+     * Sorts the values of {@code array}, using {@code buffer} as the destination of every other pass.
+     * @return The array, either {@code array} or {@code buffer}, holding the sorted values.
+     */
+    private static long[] sort(long[] array, long[] buffer) {
+        final int passes = Long.SIZE / DIGIT_BITS;
+        final int[][] counts = new int[passes][RADIX];
+        for (long value : array) {
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][digit(value, pass * DIGIT_BITS)]++;
+            }
+        }
+        long[] source = array;
+        long[] destination = buffer;
+        for (int pass = 0; pass < passes; pass++) {
+            final int shift = pass * DIGIT_BITS;
+            final int[] offsets = counts[pass];
+            if (offsets[digit(source[0], shift)] == source.length) {
+                continue;
+            }
+            toOffsets(offsets);
+            for (long value : source) {
+                destination[offsets[digit(value, shift)]++] = value;
+            }
+            final long[] swap = source;
+            source = destination;
+            destination = swap;
+        }
+        return source;
+    }
+
+    /**
+     * Replaces the counts of every digit by the position of the first value with that digit.
+     */
+    private static void toOffsets(int[] counts) {
+        int total = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            final int count = counts[digit];
+            counts[digit] = total;
+            total += count;
+        }
+    }
+
+    /**
+     * Digit of a value, flipping the sign bit so that negative values come first.
+     */
+    static int digit(int value, int shift) {
+        return ((value ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK;
+    }
+
+    /**
+     * Digit of a value, flipping the sign bit so that negative values come first.
+     */
+    static int digit(long value, int shift) {
+        return (int) ((value ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK;
+    }
+}
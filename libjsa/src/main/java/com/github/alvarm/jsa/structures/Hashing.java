@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.structures;
+
+/**
+ * Helpers shared by the open addressing hash tables of this package.
+ * @since 1.0
+ * @author alvarm
+ */
+final class Hashing {
+
+    /**
+     * Load factor used when none is given.
+     */
+    static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    /**
+     * Expected number of elements used when none is given.
+     */
+    static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private Hashing() {
+    }
+
+    /**
+     * Spreads the bits of a key so that the low bits used as slot depend on all of them.
+     */
+    static int mix(int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Spreads the bits of a key so that the low bits used as slot depend on all of them.
+     */
+    static int mix(long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Hashes a key with a seed into 64 well mixed bits, using the finalizer of MurmurHash3.
+     */
+    static long hash64(long key, long seed) {
+        long h = key + seed;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * Maps 32 hash bits to a position in <code>[0, length)</code> with a multiplication instead of a division.
+     */
+    static int reduce(int hash, int length) {
+        return (int) (((hash & 0xFFFFFFFFL) * length) >>> 32);
+    }
+
+    /**
+     * Smallest power of two table length that holds {@code expectedSize} keys below {@code loadFactor}.
+     */
+    static int capacity(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size " + expectedSize + " is negative");
+        }
+        if (!(loadFactor > 0.0f && loadFactor < 1.0f)) {
+            throw new IllegalArgumentException("Load factor " + loadFactor + " is not between 0 and 1");
+        }
+        final long minimum = Math.max(2L, (long) Math.ceil(expectedSize / (double) loadFactor) + 1L);
+        if (minimum > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Expected size " + expectedSize + " is too large");
+        }
+        return Integer.highestOneBit((int) minimum - 1) << 1;
+    }
+
+    /**
+     * Number of keys a table of length {@code capacity} holds before growing.
+     */
+    static int threshold(int capacity, float loadFactor) {
+        return Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    /**
+     * Length of the table that replaces a full one.
+     */
+    static int grow(int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Hash table cannot grow beyond " + MAXIMUM_CAPACITY + " slots");
+        }
+        return capacity << 1;
+    }
+
+    static void checkOutput(int count, int length) {
+        if (length < count) {
+            throw new IllegalArgumentException("Output array length " + length
+                    + " is lower than the number of keys " + count);
+        }
+    }
+}
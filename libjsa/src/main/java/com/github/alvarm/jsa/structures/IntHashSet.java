@@ -0,0 +1,262 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.structures;
+
+import java.util.Arrays;
+
+/**
+ * Set of int values implemented as an open addressing hash table with linear probing.<br>
+ * The keys are stored unboxed in a single int array whose length is a power of two, so a lookup
+ * hashes the key, masks it to a slot and scans consecutive slots, usually within one cache line, until
+ * it finds the key or an empty slot. The value <i>0</i> marks empty slots and is tracked apart.
+ * Removals shift the following keys back instead of leaving tombstones, so lookups never slow down
+ * after many removals.<br>
+ * When the number of keys exceeds the load factor the table doubles its length.
+ * Lower load factors use more memory and give shorter probe sequences.<br>
+ * The expected computational cost for {@link #add(int)}, {@link #contains(int)} and {@link #remove(int)}
+ * is <code>O(1)</code>.<br>
+ * The memory cost for this set is <code>O(n / loadFactor)</code> with <i>n</i> being the number of keys.<br>
+ * This class is not thread safe.
+ * @since 1.0
+ * @author alvarm
+ */
+public class IntHashSet {
+
+    private final float loadFactor;
+
+    private int[] table;
+
+    private int mask;
+
+    private int threshold;
+
+    private int size;
+
+    private boolean containsZero;
+
+    /**
+     * Create an empty set with the default expected size and a load factor of <i>0.5</i>.
+     * @since 1.0
+     */
+    public IntHashSet() {
+        this(Hashing.DEFAULT_EXPECTED_SIZE, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Create an empty set that holds {@code expectedSize} keys without growing, with a load factor of <i>0.5</i>.
+     * @param expectedSize The number of keys the set is expected to hold.
+     * @throws IllegalArgumentException If {@code expectedSize} is negative or too large.
+     * @since 1.0
+     */
+    public IntHashSet(int expectedSize) {
+        this(expectedSize, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Create an empty set that holds {@code expectedSize} keys without growing.
+     * @param expectedSize The number of keys the set is expected to hold.
+     * @param loadFactor The maximum ratio between the number of keys and the number of slots,
+     *                   greater than <i>0</i> and lower than <i>1</i>.
+     * @throws IllegalArgumentException If {@code expectedSize} is negative or too large,
+     * or if {@code loadFactor} is out of range.
+     * @since 1.0
+     */
+    public IntHashSet(int expectedSize, float loadFactor) {
+        final int capacity = Hashing.capacity(expectedSize, loadFactor);
+        this.loadFactor = loadFactor;
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+        this.threshold = Hashing.threshold(capacity, loadFactor);
+    }
+
+    /**
+     * Add a key to the set.
+     * @param key The key to add.
+     * @return <code>true</code> if the key was not present.
+     * @since 1.0
+     */
+    public boolean add(int key) {
+        if (key == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int slot = Hashing.mix(key) & mask;
+        int current;
+        while ((current = table[slot]) != 0) {
+            if (current == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = key;
+        if (++size > threshold) {
+            rehash(Hashing.grow(table.length));
+        }
+        return true;
+    }
+
+    /**
+     * Check if a key is in the set.
+     * @param key The key to search for.
+     * @return <code>true</code> if the key is present.
+     * @since 1.0
+     */
+    public boolean contains(int key) {
+        if (key == 0) {
+            return containsZero;
+        }
+        final int[] table = this.table;
+        final int mask = this.mask;
+        int slot = Hashing.mix(key) & mask;
+        int current;
+        while ((current = table[slot]) != 0) {
+            if (current == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Check for every key of an array if it is in the set.<br>
+     * The computational cost for this method is <code>O(m)</code> with
+     * <i>m</i> being <code>keys.length</code>.
+     * @param keys The keys to search for.
+     * @param out The array where <code>out[i]</code> is set to <code>contains(keys[i])</code>.
+     * @throws IllegalArgumentException If {@code out} is shorter than {@code keys}.
+     * @since 1.0
+     */
+    public void containsAll(int[] keys, boolean[] out) {
+        Hashing.checkOutput(keys.length, out.length);
+        for (int i = 0; i < keys.length; i++) {
+            out[i] = contains(keys[i]);
+        }
+    }
+
+    /**
+     * Remove a key from the set.
+     * @param key The key to remove.
+     * @return <code>true</code> if the key was present.
+     * @since 1.0
+     */
+    public boolean remove(int key) {
+        if (key == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int slot = Hashing.mix(key) & mask;
+        int current;
+        while ((current = table[slot]) != 0) {
+            if (current == key) {
+                shiftBack(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Empties the slot {@code gap} and moves back every following key whose probe sequence crosses it.
+     */
+    private void shiftBack(int gap) {
+        int slot = (gap + 1) & mask;
+        int current;
+        while ((current = table[slot]) != 0) {
+            final int home = Hashing.mix(current) & mask;
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                table[gap] = current;
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[gap] = 0;
+    }
+
+    private void rehash(int capacity) {
+        final int[] old = table;
+        table = new int[capacity];
+        mask = capacity - 1;
+        threshold = Hashing.threshold(capacity, loadFactor);
+        for (int key : old) {
+            if (key != 0) {
+                int slot = Hashing.mix(key) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = key;
+            }
+        }
+    }
+
+    /**
+     * @return The number of keys in the set.
+     * @since 1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <code>true</code> if the set has no keys.
+     * @since 1.0
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove every key of the set, keeping its capacity.
+     * @since 1.0
+     */
+    public void clear() {
+        Arrays.fill(table, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * @return A new array with the keys of the set, in no particular order.
+     * @since 1.0
+     */
+    public int[] toArray() {
+        final int[] keys = new int[size];
+        int i = 0;
+        if (containsZero) {
+            keys[i++] = 0;
+        }
+        for (int key : table) {
+            if (key != 0) {
+                keys[i++] = key;
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.structures;
+
+import java.util.Arrays;
+
+/**
+ * Map from int keys to int values implemented as an open addressing hash table with linear probing.<br>
+ * Keys and values are stored unboxed in two parallel arrays whose length is a power of two, using the same
+ * probing, growth and backward shift removal as {@link IntHashSet}. The key <i>0</i> marks empty slots
+ * and its value is tracked apart.<br>
+ * The expected computational cost for {@link #put(int, int)}, {@link #getOrDefault(int, int)} and
+ * {@link #remove(int)} is <code>O(1)</code>.<br>
+ * The memory cost for this map is <code>O(n / loadFactor)</code> with <i>n</i> being the number of entries.<br>
+ * This class is not thread safe.
+ * @since 1.0
+ * @author alvarm
+ */
+public class IntIntHashMap {
+
+    private final float loadFactor;
+
+    private int[] keys;
+
+    private int[] values;
+
+    private int mask;
+
+    private int threshold;
+
+    private int size;
+
+    private boolean containsZero;
+
+    private int zeroValue;
+
+    /**
+     * Create an empty map with the default expected size and a load factor of <i>0.5</i>.
+     * @since 1.0
+     */
+    public IntIntHashMap() {
+        this(Hashing.DEFAULT_EXPECTED_SIZE, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Create an empty map that holds {@code expectedSize} entries without growing, with a load factor of <i>0.5</i>.
+     * @param expectedSize The number of entries the map is expected to hold.
+     * @throws IllegalArgumentException If {@code expectedSize} is negative or too large.
+     * @since 1.0
+     */
+    public IntIntHashMap(int expectedSize) {
+        this(expectedSize, Hashing.DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Create an empty map that holds {@code expectedSize} entries without growing.
+     * @param expectedSize The number of entries the map is expected to hold.
+     * @param loadFactor The maximum ratio between the number of entries and the number of slots,
+     *                   greater than <i>0</i> and lower than <i>1</i>.
+     * @throws IllegalArgumentException If {@code expectedSize} is negative or too large,
+     * or if {@code loadFactor} is out of range.
+     * @since 1.0
+     */
+    public IntIntHashMap(int expectedSize, float loadFactor) {
+        final int capacity = Hashing.capacity(expectedSize, loadFactor);
+        this.loadFactor = loadFactor;
+        this.keys = new int[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        this.threshold = Hashing.threshold(capacity, loadFactor);
+    }
+
+    /**
+     * Associate a value to a key, replacing the previous value if there was one.
+     * @param key The key.
+     * @param value The value.
+     * @return <code>true</code> if the key was not present.
+     * @since 1.0
+     */
+    public boolean put(int key, int value) {
+        if (key == 0) {
+            zeroValue = value;
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int slot = Hashing.mix(key) & mask;
+        int current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) {
+                values[slot] = value;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > threshold) {
+            rehash(Hashing.grow(keys.length));
+        }
+        return true;
+    }
+
+    /**
+     * Get the value associated to a key.
+     * @param key The key to search for.
+     * @param defaultValue The value to return if the key is not present.
+     * @return The value associated to {@code key}, or {@code defaultValue} if there is none.
+     * @since 1.0
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0) {
+            return containsZero ? zeroValue : defaultValue;
+        }
+        final int[] keys = this.keys;
+        final int mask = this.mask;
+        int slot = Hashing.mix(key) & mask;
+        int current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Check if a key is in the map.
+     * @param key The key to search for.
+     * @return <code>true</code> if the key is present.
+     * @since 1.0
+     */
+    public boolean containsKey(int key) {
+        if (key == 0) {
+            return containsZero;
+        }
+        final int[] keys = this.keys;
+        final int mask = this.mask;
+        int slot = Hashing.mix(key) & mask;
+        int current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Check for every key of an array if it is in the map.<br>
+     * The computational cost for this method is <code>O(m)</code> with
+     * <i>m</i> being <code>keys.length</code>.
+     * @param keys The keys to search for.
+     * @param out The array where <code>out[i]</code> is set to <code>containsKey(keys[i])</code>.
+     * @throws IllegalArgumentException If {@code out} is shorter than {@code keys}.
+     * @since 1.0
+     */
+    public void containsAll(int[] keys, boolean[] out) {
+        Hashing.checkOutput(keys.length, out.length);
+        for (int i = 0; i < keys.length; i++) {
+            out[i] = containsKey(keys[i]);
+        }
+    }
+
+    /**
+     * Get the values associated to every key of an array.<br>
+     * The computational cost for this method is <code>O(m)</code> with
+     * <i>m</i> being <code>keys.length</code>.
+     * @param keys The keys to search for.
+     * @param out The array where <code>out[i]</code> is set to <code>getOrDefault(keys[i], defaultValue)</code>.
+     * @param defaultValue The value to use for the keys that are not present.
+     * @throws IllegalArgumentException If {@code out} is shorter than {@code keys}.
+     * @since 1.0
+     */
+    public void getAll(int[] keys, int[] out, int defaultValue) {
+        Hashing.checkOutput(keys.length, out.length);
+        for (int i = 0; i < keys.length; i++) {
+            out[i] = getOrDefault(keys[i], defaultValue);
+        }
+    }
+
+    /**
+     * Remove a key and its value from the map.
+     * @param key The key to remove.
+     * @return <code>true</code> if the key was present.
+     * @since 1.0
+     */
+    public boolean remove(int key) {
+        if (key == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            zeroValue = 0;
+            size--;
+            return true;
+        }
+        int slot = Hashing.mix(key) & mask;
+        int current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) {
+                shiftBack(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Empties the slot {@code gap} and moves back every following entry whose probe sequence crosses it.
+     */
+    private void shiftBack(int gap) {
+        int slot = (gap + 1) & mask;
+        int current;
+        while ((current = keys[slot]) != 0) {
+            final int home = Hashing.mix(current) & mask;
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = current;
+                values[gap] = values[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[gap] = 0;
+        values[gap] = 0;
+    }
+
+    private void rehash(int capacity) {
+        final int[] oldKeys = keys;
+        final int[] oldValues = values;
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = Hashing.threshold(capacity, loadFactor);
+        for (int i = 0; i < oldKeys.length; i++) {
+            final int key = oldKeys[i];
+            if (key != 0) {
+                int slot = Hashing.mix(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * @return The number of entries in the map.
+     * @since 1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <code>true</code> if the map has no entries.
+     * @since 1.0
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove every entry of the map, keeping its capacity.
+     * @since 1.0
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, 0);
+        containsZero = false;
+        zeroValue = 0;
+        size = 0;
+    }
+}
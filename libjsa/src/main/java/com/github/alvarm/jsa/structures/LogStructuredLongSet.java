@@ -0,0 +1,437 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.structures;
+
+import com.github.alvarm.jsa.search.IterativeBinarySearch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Mutable sorted set of long values organised as a log-structured merge of sorted runs.<br>
+ * Inserts and removals go to a small sorted buffer. When the buffer is full it becomes a sorted run that is
+ * merged into the first level; a level that exceeds its capacity is merged into the next one. Level <i>i</i>
+ * holds at most <code>{@link #BUFFER_CAPACITY} * {@link #GROWTH_FACTOR}<sup>i + 1</sup></code> values, so there are
+ * <code>O(log(n))</code> runs and every value is copied <code>O(log(n))</code> times in total, instead of
+ * reallocating the whole array on every insert.<br>
+ * A removal stores a tombstone that hides the value in older runs. Tombstones are dropped when they
+ * reach the oldest run.<br>
+ * Every run has a {@link BlockedBloomFilter} over its values, built once when the run is stored in its level, so
+ * the intermediate runs of a merge are never hashed. Lookups search the buffer and then every run from the newest
+ * to the oldest, stopping at the first one that knows the value, but a run is only searched with
+ * {@link IterativeBinarySearch} when its filter may contain the value. A lookup usually costs one binary search plus
+ * one filter probe per run, instead of a binary search per run, and a missing value usually costs no binary search
+ * at all. This is still about half the speed of a binary search over a single sorted array until
+ * {@link #compact()} is called.<br>
+ * The expected computational cost for {@link #contains(long)} is <code>O(log(n))</code> and the
+ * amortized cost of {@link #add(long)} and {@link #remove(long)} is the same plus
+ * <code>O(log(n))</code> copies, with <i>n</i> being the number of values.<br>
+ * The memory cost for this set is <code>O(n)</code>, with {@link #FILTER_BITS_PER_KEY} extra bits per value.<br>
+ * This class is not thread safe.
+ * @since 1.0
+ * @author alvarm
+ */
+public class LogStructuredLongSet {
+
+    /**
+     * Number of inserts and removals collected before they are written as a sorted run.
+     * @since 1.0
+     */
+    public static final int BUFFER_CAPACITY = 1 << 8;
+
+    /**
+     * Ratio between the capacities of two consecutive levels.
+     * @since 1.0
+     */
+    public static final int GROWTH_FACTOR = 8;
+
+    /**
+     * Bits per value of the filter of every run, about a 1% false positive rate.
+     * @since 1.0
+     */
+    public static final int FILTER_BITS_PER_KEY = 10;
+
+    private final long[] bufferKeys = new long[BUFFER_CAPACITY];
+
+    private final boolean[] bufferDeleted = new boolean[BUFFER_CAPACITY];
+
+    private int bufferSize;
+
+    /**
+     * Runs from the newest to the oldest. An empty level is <code>null</code>.
+     */
+    private final List<Run> levels = new ArrayList<>();
+
+    /**
+     * Non empty levels from the newest to the oldest, rebuilt whenever the levels change.
+     */
+    private Run[] runs = new Run[0];
+
+    private int size;
+
+    /**
+     * Create an empty set.
+     * @since 1.0
+     */
+    public LogStructuredLongSet() {
+    }
+
+    /**
+     * Add a value to the set.
+     * @param key The value to add.
+     * @return <code>true</code> if the value was not present.
+     * @since 1.0
+     */
+    public boolean add(long key) {
+        final int position = IterativeBinarySearch.search(bufferKeys, 0, bufferSize, key);
+        if (position >= 0) {
+            if (!bufferDeleted[position]) {
+                return false;
+            }
+            bufferDeleted[position] = false;
+        } else {
+            if (containsInRuns(key)) {
+                return false;
+            }
+            insert(~position, key, false);
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Remove a value from the set.
+     * @param key The value to remove.
+     * @return <code>true</code> if the value was present.
+     * @since 1.0
+     */
+    public boolean remove(long key) {
+        final int position = IterativeBinarySearch.search(bufferKeys, 0, bufferSize, key);
+        if (position >= 0) {
+            if (bufferDeleted[position]) {
+                return false;
+            }
+            bufferDeleted[position] = true;
+        } else {
+            if (!containsInRuns(key)) {
+                return false;
+            }
+            insert(~position, key, true);
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Check if a value is in the set.
+     * @param key The value to search for.
+     * @return <code>true</code> if the value is present.
+     * @since 1.0
+     */
+    public boolean contains(long key) {
+        if (bufferSize > 0) {
+            final int position = IterativeBinarySearch.search(bufferKeys, 0, bufferSize, key);
+            if (position >= 0) {
+                return !bufferDeleted[position];
+            }
+        }
+        return containsInRuns(key);
+    }
+
+    private boolean containsInRuns(long key) {
+        for (Run run : runs) {
+            if (run.filter.mightContain(key)) {
+                final int position = IterativeBinarySearch.search(run.keys, key);
+                if (position >= 0) {
+                    return !run.isDeleted(position);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void insert(int position, long key, boolean deleted) {
+        System.arraycopy(bufferKeys, position, bufferKeys, position + 1, bufferSize - position);
+        System.arraycopy(bufferDeleted, position, bufferDeleted, position + 1, bufferSize - position);
+        bufferKeys[position] = key;
+        bufferDeleted[position] = deleted;
+        if (++bufferSize == BUFFER_CAPACITY) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the buffer as a run and merges it down the levels until it fits in one.<br>
+     * Only the run that is finally stored gets a filter.
+     */
+    private void flush() {
+        Run run = bufferRun();
+        long capacity = BUFFER_CAPACITY;
+        for (int level = 0; ; level++) {
+            capacity *= GROWTH_FACTOR;
+            if (level == levels.size()) {
+                levels.add(run.withoutTombstones().seal());
+                break;
+            }
+            final Run existing = levels.get(level);
+            final boolean oldest = isOldest(level);
+            if (existing != null) {
+                run = merge(run, existing, oldest);
+            }
+            if (run.keys.length <= capacity) {
+                levels.set(level, (oldest ? run.withoutTombstones() : run).seal());
+                break;
+            }
+            levels.set(level, null);
+        }
+        updateRuns();
+    }
+
+    /**
+     * Empties the buffer into a new run, tombstones included.
+     */
+    private Run bufferRun() {
+        final Run run = new Run(Arrays.copyOf(bufferKeys, bufferSize), new long[words(bufferSize)]);
+        for (int i = 0; i < bufferSize; i++) {
+            if (bufferDeleted[i]) {
+                run.delete(i);
+            }
+        }
+        bufferSize = 0;
+        return run;
+    }
+
+    private void updateRuns() {
+        final List<Run> nonEmpty = new ArrayList<>(levels.size());
+        for (Run run : levels) {
+            if (run != null) {
+                nonEmpty.add(run);
+            }
+        }
+        runs = nonEmpty.toArray(new Run[0]);
+    }
+
+    private boolean isOldest(int level) {
+        for (int i = level + 1; i < levels.size(); i++) {
+            if (levels.get(i) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Merge every run and the buffer into a single run without tombstones.<br>
+     * After this call lookups search a single sorted array.<br>
+     * The computational cost for this method is <code>O(n)</code> with
+     * <i>n</i> being the number of values.
+     * @since 1.0
+     */
+    public void compact() {
+        if (bufferSize == 0 && runs.length <= 1) {
+            return;
+        }
+        final Run[] sources = new Run[runs.length + 1];
+        sources[0] = bufferRun();
+        System.arraycopy(runs, 0, sources, 1, runs.length);
+        levels.clear();
+        levels.add(mergeAll(sources).seal());
+        updateRuns();
+    }
+
+    /**
+     * @return The number of values in the set.
+     * @since 1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <code>true</code> if the set has no values.
+     * @since 1.0
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return The number of non empty runs, not counting the buffer.
+     * @since 1.0
+     */
+    public int runCount() {
+        return runs.length;
+    }
+
+    /**
+     * Get the values of the set in ascending order.<br>
+     * The set is compacted first.
+     * @return A new sorted array with the values of the set.
+     * @since 1.0
+     */
+    public long[] toArray() {
+        compact();
+        return (runs.length == 0) ? new long[0] : runs[0].keys.clone();
+    }
+
+    /**
+     * Merges two runs. When both hold a value, the entry of the newer one is kept.
+     */
+    private static Run merge(Run newer, Run older, boolean dropTombstones) {
+        final long[] keys = new long[newer.keys.length + older.keys.length];
+        final long[] deleted = new long[words(keys.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < newer.keys.length || j < older.keys.length) {
+            final long key;
+            final boolean isDeleted;
+            if (j == older.keys.length || (i < newer.keys.length && newer.keys[i] <= older.keys[j])) {
+                key = newer.keys[i];
+                isDeleted = newer.isDeleted(i);
+                if (j < older.keys.length && older.keys[j] == key) {
+                    j++;
+                }
+                i++;
+            } else {
+                key = older.keys[j];
+                isDeleted = older.isDeleted(j);
+                j++;
+            }
+            if (isDeleted) {
+                if (dropTombstones) {
+                    continue;
+                }
+                deleted[k >>> 6] |= 1L << k;
+            }
+            keys[k++] = key;
+        }
+        return new Run((k == keys.length) ? keys : Arrays.copyOf(keys, k), deleted);
+    }
+
+    /**
+     * Merges the runs, from the newest to the oldest, in a single pass and drops the tombstones.
+     * When several runs hold a value, the entry of the newest one is kept.
+     */
+    private static Run mergeAll(Run[] sources) {
+        int total = 0;
+        for (Run run : sources) {
+            total += run.keys.length;
+        }
+        final long[] keys = new long[total];
+        final int[] heads = new int[sources.length];
+        int k = 0;
+        while (true) {
+            int newest = -1;
+            long key = 0L;
+            for (int r = 0; r < sources.length; r++) {
+                if (heads[r] < sources[r].keys.length && (newest < 0 || sources[r].keys[heads[r]] < key)) {
+                    newest = r;
+                    key = sources[r].keys[heads[r]];
+                }
+            }
+            if (newest < 0) {
+                break;
+            }
+            boolean bounded = false;
+            long bound = 0L;
+            for (int r = 0; r < sources.length; r++) {
+                if (r != newest && heads[r] < sources[r].keys.length
+                        && (!bounded || sources[r].keys[heads[r]] < bound)) {
+                    bounded = true;
+                    bound = sources[r].keys[heads[r]];
+                }
+            }
+            if (!sources[newest].isDeleted(heads[newest])) {
+                keys[k++] = key;
+            }
+            for (int r = newest; r < sources.length; r++) {
+                if (heads[r] < sources[r].keys.length && sources[r].keys[heads[r]] == key) {
+                    heads[r]++;
+                }
+            }
+            // No other run has a value below the smallest of their heads, so those values are copied directly.
+            final Run run = sources[newest];
+            int i = heads[newest];
+            while (i < run.keys.length && (!bounded || run.keys[i] < bound)) {
+                if (!run.isDeleted(i)) {
+                    keys[k++] = run.keys[i];
+                }
+                i++;
+            }
+            heads[newest] = i;
+        }
+        return new Run((k == keys.length) ? keys : Arrays.copyOf(keys, k), new long[words(k)]);
+    }
+
+    private static int words(int length) {
+        return (length + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * Sorted array of distinct values with a bit set marking the tombstones. Once stored in a level, it is sealed with
+     * a filter over the values, tombstones included.
+     */
+    private static class Run {
+        private final long[] keys;
+        private final long[] deleted;
+        private BlockedBloomFilter filter;
+
+        private Run(long[] keys, long[] deleted) {
+            this.keys = keys;
+            this.deleted = deleted;
+        }
+
+        /**
+         * Builds the filter of a run that is stored in a level.
+         */
+        private Run seal() {
+            filter = BlockedBloomFilter.of(keys, FILTER_BITS_PER_KEY);
+            return this;
+        }
+
+        private boolean isDeleted(int position) {
+            return (deleted[position >>> 6] & (1L << position)) != 0;
+        }
+
+        private void delete(int position) {
+            deleted[position >>> 6] |= 1L << position;
+        }
+
+        private Run withoutTombstones() {
+            int tombstones = 0;
+            for (long word : deleted) {
+                tombstones += Long.bitCount(word);
+            }
+            if (tombstones == 0) {
+                return this;
+            }
+            final long[] kept = new long[keys.length - tombstones];
+            int k = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (!isDeleted(i)) {
+                    kept[k++] = keys[i];
+                }
+            }
+            return new Run(kept, new long[words(kept.length)]);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.structures;
+
+/**
+ * Approximate membership filter over int and long keys.<br>
+ * A filter answers <code>false</code> only for keys that were never added, and may answer <code>true</code> for
+ * a small fraction of the keys that were not added, its false positive rate. Checking a filter before a search
+ * skips the search for most of the missing keys.
+ * @since 1.0
+ * @author alvarm
+ */
+public interface MembershipFilter {
+
+    /**
+     * Check if a key may be in the filter.
+     * @param key The key to search for.
+     * @return <code>false</code> if the key is definitely not present, <code>true</code> if it may be present.
+     * @since 1.0
+     */
+    boolean mightContain(long key);
+
+    /**
+     * Check if a key may be in the filter. Int keys are stored as the long with the same value.
+     * @param key The key to search for.
+     * @return <code>false</code> if the key is definitely not present, <code>true</code> if it may be present.
+     * @since 1.0
+     */
+    default boolean mightContain(int key) {
+        return mightContain((long) key);
+    }
+
+    /**
+     * @return The expected probability that {@link #mightContain(long)} returns <code>true</code> for a key
+     * that is not present.
+     * @since 1.0
+     */
+    double falsePositiveRate();
+
+    /**
+     * @return The number of bits of memory used by the filter for every key added to it.
+     * @since 1.0
+     */
+    double bitsPerKey();
+}
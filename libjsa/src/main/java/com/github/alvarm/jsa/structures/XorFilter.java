@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.structures;
+
+import java.util.Arrays;
+
+/**
+ * Static xor filter with 8-bit fingerprints.<br>
+ * Every key is hashed to three slots, one in each third of a table of about <code>1.23 * n</code> bytes, and the
+ * table is filled so that the xor of the three slots of every key is its fingerprint. A lookup reads three bytes
+ * and compares their xor with the fingerprint of the key, so it has no loop and no branch on the table contents.
+ * The table is filled by repeatedly removing a slot used by a single key; when that fails the keys are hashed
+ * again with another seed.<br>
+ * It uses about <i>9.84</i> bits per key for a false positive rate of <i>1/256</i>, less memory than a Bloom
+ * filter with the same rate, but keys cannot be added after it is built.<br>
+ * The computational cost for {@link #mightContain(long)} is <code>O(1)</code>, reading three bytes.<br>
+ * The memory cost for this filter is <code>O(n)</code> with <i>n</i> being the number of distinct keys.
+ * @since 1.0
+ * @author alvarm
+ */
+public class XorFilter implements MembershipFilter {
+
+    private static final int MAX_ATTEMPTS = 100;
+
+    private final byte[] fingerprints;
+
+    private final int blockLength;
+
+    private final long seed;
+
+    private final int count;
+
+    private XorFilter(byte[] fingerprints, int blockLength, long seed, int count) {
+        this.fingerprints = fingerprints;
+        this.blockLength = blockLength;
+        this.seed = seed;
+        this.count = count;
+    }
+
+    /**
+     * Build a filter with all the keys of an array. Duplicated keys are allowed.<br>
+     * The computational cost for building the filter is <code>O(n * log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>keys.length</code>, to sort out the duplicates.
+     * @param keys The keys to add.
+     * @return A filter that contains every key of {@code keys}.
+     * @since 1.0
+     */
+    public static XorFilter of(int[] keys) {
+        final long[] longKeys = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            longKeys[i] = keys[i];
+        }
+        return build(longKeys);
+    }
+
+    /**
+     * Build a filter with all the keys of an array. Duplicated keys are allowed.<br>
+     * The computational cost for building the filter is <code>O(n * log<sub>2</sub>(n))</code> with
+     * <i>n</i> being <code>keys.length</code>, to sort out the duplicates.
+     * @param keys The keys to add.
+     * @return A filter that contains every key of {@code keys}.
+     * @since 1.0
+     */
+    public static XorFilter of(long[] keys) {
+        return build(keys.clone());
+    }
+
+    private static XorFilter build(long[] keys) {
+        Arrays.sort(keys);
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (i == 0 || keys[i] != keys[i - 1]) {
+                keys[n++] = keys[i];
+            }
+        }
+        final int blockLength = (32 + (int) Math.ceil(1.23d * n)) / 3;
+        final int capacity = blockLength * 3;
+        final int[] slotCount = new int[capacity];
+        final long[] slotHashes = new long[capacity];
+        final int[] queue = new int[capacity];
+        final long[] stackHashes = new long[n];
+        final int[] stackSlots = new int[n];
+        long seed = 0x2545F4914F6CDD1DL;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++, seed = Hashing.hash64(seed, attempt)) {
+            Arrays.fill(slotCount, 0);
+            Arrays.fill(slotHashes, 0L);
+            for (int i = 0; i < n; i++) {
+                final long hash = Hashing.hash64(keys[i], seed);
+                for (int j = 0; j < 3; j++) {
+                    final int slot = slot(hash, j, blockLength);
+                    slotCount[slot]++;
+                    slotHashes[slot] ^= hash;
+                }
+            }
+            int queueSize = 0;
+            for (int slot = 0; slot < capacity; slot++) {
+                if (slotCount[slot] == 1) {
+                    queue[queueSize++] = slot;
+                }
+            }
+            int stackSize = 0;
+            while (queueSize > 0) {
+                final int slot = queue[--queueSize];
+                if (slotCount[slot] != 1) {
+                    continue;
+                }
+                final long hash = slotHashes[slot];
+                stackHashes[stackSize] = hash;
+                stackSlots[stackSize++] = slot;
+                for (int j = 0; j < 3; j++) {
+                    final int other = slot(hash, j, blockLength);
+                    slotCount[other]--;
+                    slotHashes[other] ^= hash;
+                    if (slotCount[other] == 1) {
+                        queue[queueSize++] = other;
+                    }
+                }
+            }
+            if (stackSize == n) {
+                final byte[] fingerprints = new byte[capacity];
+                for (int i = stackSize - 1; i >= 0; i--) {
+                    final long hash = stackHashes[i];
+                    final int slot = stackSlots[i];
+                    fingerprints[slot] = (byte) (fingerprint(hash)
+                            ^ fingerprints[slot(hash, 0, blockLength)]
+                            ^ fingerprints[slot(hash, 1, blockLength)]
+                            ^ fingerprints[slot(hash, 2, blockLength)]);
+                }
+                return new XorFilter(fingerprints, blockLength, seed, n);
+            }
+        }
+        throw new IllegalStateException("Could not build a xor filter after " + MAX_ATTEMPTS + " attempts");
+    }
+
+    private static int slot(long hash, int index, int blockLength) {
+        return Hashing.reduce((int) Long.rotateLeft(hash, 21 * index), blockLength) + index * blockLength;
+    }
+
+    private static int fingerprint(long hash) {
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    @Override
+    public boolean mightContain(long key) {
+        final long hash = Hashing.hash64(key, seed);
+        final int xor = fingerprints[Hashing.reduce((int) hash, blockLength)]
+                ^ fingerprints[Hashing.reduce((int) Long.rotateLeft(hash, 21), blockLength) + blockLength]
+                ^ fingerprints[Hashing.reduce((int) Long.rotateLeft(hash, 42), blockLength) + (blockLength << 1)];
+        return (byte) (fingerprint(hash) ^ xor) == 0;
+    }
+
+    @Override
+    public double falsePositiveRate() {
+        return 1.0d / 256.0d;
+    }
+
+    @Override
+    public double bitsPerKey() {
+        return (double) fingerprints.length * Byte.SIZE / Math.max(1, count);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchBinarySearchTest {
+
+    private record Sample(int id, long time, double value) {
+    }
+
+    @Test
+    void searchAllInt() {
+        int[] array = RandomArrayUtils.generateRandomArray(100L, 0, 1000);
+        Arrays.sort(array);
+        int[] targets = RandomArrayUtils.generateRandomArray(1001L, -10, 1010);
+        int[] out = new int[targets.length];
+        BatchBinarySearch.searchAll(array, targets, out);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(BranchlessBinarySearch.search(array, targets[i]), out[i]);
+        }
+        BatchBinarySearch.searchAll(new int[0], targets, out);
+        assertTrue(Arrays.stream(out).allMatch(pos -> pos == -1));
+    }
+
+    @Test
+    void searchAllLong() {
+        long[] array = RandomArrayUtils.generateRandomArray(100L, 0L, 1000L);
+        Arrays.sort(array);
+        long[] targets = RandomArrayUtils.generateRandomArray(1001L, -10L, 1010L);
+        int[] out = new int[targets.length];
+        BatchBinarySearch.searchAll(array, targets, out);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(BranchlessBinarySearch.search(array, targets[i]), out[i]);
+        }
+    }
+
+    @Test
+    void searchAllFloat() {
+        float[] array = RandomArrayUtils.generateFloatRandomArray(100, 0, 1000);
+        Arrays.sort(array);
+        float[] targets = RandomArrayUtils.generateFloatRandomArray(1001, -10, 1010);
+        int[] out = new int[targets.length];
+        BatchBinarySearch.searchAll(array, targets, out);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(BranchlessBinarySearch.search(array, targets[i]), out[i]);
+        }
+        BatchBinarySearch.searchAll(array, targets, out, 1e-5f);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(BranchlessBinarySearch.search(array, targets[i], 1e-5f), out[i]);
+        }
+    }
+
+    @Test
+    void searchAllDouble() {
+        double[] array = RandomArrayUtils.generateDoubleRandomArray(100L, 0, 1000);
+        Arrays.sort(array);
+        double[] targets = RandomArrayUtils.generateDoubleRandomArray(1001L, -10, 1010);
+        int[] out = new int[targets.length];
+        BatchBinarySearch.searchAll(array, targets, out);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(BranchlessBinarySearch.search(array, targets[i]), out[i]);
+        }
+        BatchBinarySearch.searchAll(array, targets, out, 1e-5);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(BranchlessBinarySearch.search(array, targets[i], 1e-5), out[i]);
+        }
+    }
+
+    @Test
+    void searchAllGenericComparator() {
+        Integer[] array = RandomArrayUtils.generateRandomBoxedArray(100L, 0, 1000);
+        Comparator<Integer> cmp = Comparator.reverseOrder();
+        Arrays.sort(array, cmp);
+        Integer[] targets = RandomArrayUtils.generateRandomBoxedArray(1001L, -10, 1010);
+        int[] out = new int[targets.length];
+        BatchBinarySearch.searchAll(array, targets, out, cmp);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(BranchlessBinarySearch.search(array, targets[i], cmp), out[i]);
+        }
+    }
+
+    @Test
+    void searchAllByKey() {
+        int[] ids = RandomArrayUtils.generateRandomArray(100L, 0, 1000);
+        Arrays.sort(ids);
+        Sample[] array = Arrays.stream(ids)
+                .mapToObj(id -> new Sample(id, id * 10L, id / 4.0))
+                .toArray(Sample[]::new);
+        int[] targets = RandomArrayUtils.generateRandomArray(1001L, -10, 1010);
+        int[] out = new int[targets.length];
+        BatchBinarySearch.searchAllByIntKey(array, Sample::id, targets, out);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(BranchlessBinarySearch.search(ids, targets[i]), out[i]);
+        }
+        long[] times = Arrays.stream(targets).mapToLong(target -> target * 10L).toArray();
+        BatchBinarySearch.searchAllByLongKey(array, Sample::time, times, out);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(BranchlessBinarySearch.search(ids, targets[i]), out[i]);
+        }
+        double[] values = Arrays.stream(targets).mapToDouble(target -> target / 4.0).toArray();
+        BatchBinarySearch.searchAllByDoubleKey(array, Sample::value, values, out);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(BranchlessBinarySearch.search(ids, targets[i]), out[i]);
+        }
+    }
+
+    @Test
+    void searchAllShortOutput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchBinarySearch.searchAll(new int[]{1, 2, 3}, new int[]{1, 2}, new int[1]));
+    }
+}
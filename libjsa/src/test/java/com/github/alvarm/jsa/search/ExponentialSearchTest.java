@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExponentialSearchTest {
+
+    @Test
+    void searchInt() {
+        int[] array = RandomArrayUtils.generateRandomArray(100L, 0, 1000);
+        Arrays.sort(array);
+        for (int hint = -1; hint <= array.length + 1; hint++) {
+            for (int i = -1; i <= 1000; i++) {
+                assertEquals(BranchlessBinarySearch.search(array, i), ExponentialSearch.search(array, i, hint));
+            }
+        }
+        assertEquals(-1, ExponentialSearch.search(new int[0], 0));
+    }
+
+    @Test
+    void searchLong() {
+        long[] array = RandomArrayUtils.generateRandomArray(100L, 0L, 1000L);
+        Arrays.sort(array);
+        for (int hint = -1; hint <= array.length + 1; hint++) {
+            for (long i = -1; i <= 1000; i++) {
+                assertEquals(BranchlessBinarySearch.search(array, i), ExponentialSearch.search(array, i, hint));
+            }
+        }
+        assertEquals(-1, ExponentialSearch.search(new long[0], 0L));
+    }
+
+    @Test
+    void searchAllInt() {
+        int[] array = RandomArrayUtils.generateRandomArray(1000L, 0, 10000);
+        Arrays.sort(array);
+        int[] targets = RandomArrayUtils.generateRandomArray(500L, -10, 10010);
+        Arrays.sort(targets);
+        int[] out = new int[targets.length];
+        ExponentialSearch.searchAll(array, targets, out);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(BranchlessBinarySearch.search(array, targets[i]), out[i]);
+        }
+        int[] unsorted = RandomArrayUtils.generateRandomArray(500L, -10, 10010);
+        ExponentialSearch.searchAll(array, unsorted, out);
+        for (int i = 0; i < unsorted.length; i++) {
+            assertEquals(BranchlessBinarySearch.search(array, unsorted[i]), out[i]);
+        }
+    }
+
+    @Test
+    void searchAllLong() {
+        long[] array = RandomArrayUtils.generateRandomArray(1000L, 0L, 10000L);
+        Arrays.sort(array);
+        long[] targets = RandomArrayUtils.generateRandomArray(500L, -10L, 10010L);
+        Arrays.sort(targets);
+        int[] out = new int[targets.length];
+        ExponentialSearch.searchAll(array, targets, out);
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(BranchlessBinarySearch.search(array, targets[i]), out[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> ExponentialSearch.searchAll(array, targets, new int[0]));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilteredIntIndexTest {
+
+    private static int[] generateArray() {
+        int[] array = RandomArrayUtils.generateRandomArray(10_000L, 0, 1_000_000);
+        Arrays.sort(array);
+        return array;
+    }
+
+    private static void checkIndex(FilteredIntIndex index, int[] array) {
+        for (int i = -10; i < 200_000; i++) {
+            int position = index.indexOf(i);
+            int expected = Arrays.binarySearch(array, i);
+            if (expected < 0) {
+                assertEquals(-1, position);
+            } else {
+                assertEquals(i, array[position]);
+            }
+            assertEquals(expected >= 0, index.contains(i));
+        }
+    }
+
+    @Test
+    void searchWithBloomFilter() {
+        int[] array = generateArray();
+        FilteredIntIndex index = FilteredIntIndex.withBloomFilter(array, 12);
+        checkIndex(index, array);
+        assertTrue(index.observedFalsePositiveRate() < 0.02);
+        assertTrue(index.expectedFalsePositiveRate() < 0.02);
+        assertEquals(12.0d, index.bitsPerKey(), 0.5d);
+    }
+
+    @Test
+    void searchWithXorFilter() {
+        int[] array = generateArray();
+        FilteredIntIndex index = FilteredIntIndex.withXorFilter(array);
+        checkIndex(index, array);
+        assertTrue(index.observedFalsePositiveRate() < 0.01);
+        assertEquals(1.0d / 256.0d, index.expectedFalsePositiveRate());
+        index.resetStatistics();
+        assertEquals(0.0d, index.observedFalsePositiveRate());
+    }
+
+    @Test
+    void countFromManyThreads() throws InterruptedException {
+        int[] array = generateArray();
+        FilteredIntIndex index = FilteredIntIndex.withBloomFilter(array, 4);
+        for (int i = 0; i < 100_000; i++) {
+            index.indexOf(i);
+        }
+        double expected = index.observedFalsePositiveRate();
+        assertTrue(expected > 0.0d);
+        index.resetStatistics();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    index.indexOf(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(expected, index.observedFalsePositiveRate(), 1e-12);
+    }
+}
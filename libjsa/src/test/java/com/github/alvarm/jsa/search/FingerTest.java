@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FingerTest {
+
+    @Test
+    void searchNearbyTargets() {
+        Integer[] array = RandomArrayUtils.generateRandomBoxedArray(50_000L, 0, 100_000);
+        Arrays.sort(array);
+        Finger<Integer> finger = Finger.of(array);
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        int target = 50_000;
+        for (int i = 0; i < 100_000; i++) {
+            target = Math.max(-5, Math.min(100_005, target + rng.nextInt(-30, 31)));
+            assertEquals(BranchlessBinarySearch.search(array, target, Comparator.naturalOrder()), finger.search(target));
+        }
+    }
+
+    @Test
+    void searchFarTargets() {
+        Integer[] array = RandomArrayUtils.generateRandomBoxedArray(50_000L, 0, 100_000);
+        Arrays.sort(array);
+        Finger<Integer> finger = Finger.of(array);
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        for (int i = 0; i < 100_000; i++) {
+            int target = rng.nextInt(-5, 100_005);
+            int result = finger.search(target);
+            assertEquals(BranchlessBinarySearch.search(array, target, Comparator.naturalOrder()), result);
+            assertEquals((result >= 0) ? result : ~result, finger.position());
+        }
+    }
+
+    @Test
+    void moveTo() {
+        Integer[] array = RandomArrayUtils.generateRandomBoxedArray(50_000L, 0, 100_000);
+        Arrays.sort(array);
+        Finger<Integer> finger = Finger.of(array);
+        finger.moveTo(-10);
+        assertEquals(0, finger.position());
+        finger.moveTo(Integer.MAX_VALUE);
+        assertEquals(array.length, finger.position());
+        int target = 0;
+        assertEquals(BranchlessBinarySearch.search(array, target, Comparator.naturalOrder()), finger.search(target));
+    }
+}
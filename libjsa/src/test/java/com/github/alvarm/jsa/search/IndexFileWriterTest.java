@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexFileWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeHeader() throws IOException {
+        Path path = directory.resolve("sorted");
+        IndexFileWriter.write(path, new long[]{1L, 2L, 3L}, IndexLayout.SORTED, ByteOrder.BIG_ENDIAN);
+        ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.BIG_ENDIAN);
+        assertEquals(IndexFileWriter.HEADER_SIZE + 3 * Long.BYTES, file.limit());
+        assertEquals('J', file.get(0));
+        assertEquals('I', file.get(3));
+        assertEquals(IndexFileWriter.VERSION, file.get(4));
+        assertEquals(Long.BYTES, file.get(5));
+        assertEquals(1, file.get(6));
+        assertEquals(IndexLayout.SORTED.ordinal(), file.get(7));
+        assertEquals(3L, file.getLong(8));
+        assertEquals(IndexFileWriter.HEADER_SIZE, file.getLong(16));
+        assertEquals(3L, file.getLong(24));
+        assertEquals(0L, file.getLong(40));
+        assertEquals(0, file.getInt(48));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i + 1L, file.getLong(IndexFileWriter.HEADER_SIZE + i * Long.BYTES));
+        }
+    }
+
+    @Test
+    void writeAlignedBlocks() throws IOException {
+        Path path = directory.resolve("eytzinger");
+        int[] array = new int[100_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = 2 * i;
+        }
+        IndexFileWriter.write(path, array, IndexLayout.EYTZINGER, ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(0, file.get(6));
+        assertEquals(array.length + 1L, file.getLong(24));
+        long auxOffset = file.getLong(32);
+        assertEquals(0, auxOffset % IndexFileWriter.ALIGNMENT);
+        assertTrue(auxOffset >= IndexFileWriter.HEADER_SIZE + (array.length + 1L) * Integer.BYTES);
+        assertEquals(array.length + 1L, file.getLong(40));
+        assertEquals(auxOffset + (array.length + 1L) * Integer.BYTES, file.limit());
+    }
+
+    @Test
+    void writeNodeSize() throws IOException {
+        Path path = directory.resolve("btree");
+        IndexFileWriter.write(path, new long[]{1L, 2L, 3L}, IndexLayout.BTREE, ByteOrder.BIG_ENDIAN);
+        ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.BIG_ENDIAN);
+        assertEquals(LongBTreeIndex.NODE_SIZE, file.getInt(48));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntEytzingerIndexTest {
+
+    @Test
+    void searchInt() {
+        final int start = 0;
+        final int end = 1000;
+        for (int size = 0; size < 130; size++) {
+            int[] array = RandomArrayUtils.generateRandomArray(size, start, end);
+            Arrays.sort(array);
+            array = Arrays.stream(array).distinct().toArray();
+            IntEytzingerIndex index = new IntEytzingerIndex(array);
+            assertEquals(array.length, index.size());
+            for (int i = start - 1; i <= end; i++) {
+                assertEquals(IterativeBinarySearch.search(array, i), index.search(i));
+            }
+        }
+    }
+
+    @Test
+    void searchIntDuplicates() {
+        int[] array = RandomArrayUtils.generateRandomArray(1000L, 0, 100);
+        Arrays.sort(array);
+        IntEytzingerIndex index = new IntEytzingerIndex(array);
+        for (int i = -1; i <= 100; i++) {
+            int pos = index.search(i);
+            int javaPos = Arrays.binarySearch(array, i);
+            if (javaPos < 0) {
+                assertEquals(javaPos, pos);
+            } else {
+                assertEquals(i, array[pos]);
+                assertTrue(pos == 0 || array[pos - 1] < i);
+            }
+        }
+    }
+
+    @Test
+    void searchIntLimits() {
+        int[] array = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+        IntEytzingerIndex index = new IntEytzingerIndex(array);
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(i, index.search(array[i]));
+        }
+        assertEquals(~1, index.search(-2));
+        assertEquals(~4, index.search(Integer.MAX_VALUE - 1));
+        assertEquals(-1, new IntEytzingerIndex(new int[0]).search(0));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntSnapshotIndexTest {
+
+    private static int[] multiples(int length, int step) {
+        int[] array = new int[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = (int) i * step;
+        }
+        return array;
+    }
+
+    @Test
+    void searchAndPublish() throws InterruptedException {
+        int[] array = RandomArrayUtils.generateRandomArray(1000L, 0, 5000);
+        Arrays.sort(array);
+        IntSnapshotIndex index = new IntSnapshotIndex(array);
+        assertEquals(0L, index.version());
+        assertEquals(1000, index.size());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(IterativeBinarySearch.search(array, i), index.search(i));
+        }
+        assertEquals(5000L, index.readCount());
+        assertEquals(5000L, index.threadReadCount());
+        Thread reader = new Thread(() -> index.search(7));
+        reader.start();
+        reader.join();
+        assertEquals(5001L, index.readCount());
+        assertEquals(5000L, index.threadReadCount());
+        assertEquals(1L, index.publish(multiples(10, 2)));
+        assertTrue(index.contains(18));
+        assertFalse(index.contains(19));
+        assertFalse(index.compareAndPublish(0L, multiples(10, 3)));
+        assertTrue(index.compareAndPublish(1L, multiples(10, 3)));
+        assertEquals(2L, index.version());
+        assertTrue(index.contains(27));
+        int[] out = new int[3];
+        assertEquals(2L, index.searchAll(new int[]{0, 4, 9}, out));
+        assertArrayEquals(new int[]{0, ~2, 3}, out);
+        IntSnapshotIndex.Snapshot pinned = index.current();
+        index.publish(multiples(10, 5));
+        assertEquals(2L, pinned.version());
+        assertEquals(27, pinned.array()[pinned.search(27)]);
+        assertEquals(3L, index.current().version());
+        assertEquals(45, index.current().array()[index.current().search(45)]);
+    }
+
+    @Test
+    void concurrentReadersAndWriter() throws Exception {
+        final int threads = 4;
+        final int length = 1 << 12;
+        IntSnapshotIndex index = new IntSnapshotIndex(multiples(length, 1));
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<Long>> readers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                readers.add(executor.submit(() -> {
+                    long count = 0L;
+                    for (int i = 0; running.get() || i < 100_000; i++) {
+                        // Every published array holds the multiples of some step, so its first
+                        // element is always found at position zero.
+                        assertEquals(0, index.search(0));
+                        count++;
+                    }
+                    assertEquals(count, index.threadReadCount());
+                    return count;
+                }));
+            }
+            Future<?> writer = executor.submit(() -> {
+                for (int step = 2; step < 200; step++) {
+                    index.publish(multiples(length, step));
+                }
+                running.set(false);
+            });
+            writer.get();
+            long total = 0L;
+            for (Future<Long> reader : readers) {
+                total += reader.get();
+            }
+            assertEquals(total, index.readCount());
+            assertEquals(198L, index.version());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
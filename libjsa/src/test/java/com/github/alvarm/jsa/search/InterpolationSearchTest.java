@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterpolationSearchTest {
+
+    private static void assertSearch(int[] array, int target, int pos) {
+        int javaPos = Arrays.binarySearch(array, target);
+        if (javaPos < 0) {
+            assertEquals(javaPos, pos);
+        } else {
+            assertEquals(target, array[pos]);
+        }
+    }
+
+    private static void assertSearch(long[] array, long target, int pos) {
+        int javaPos = Arrays.binarySearch(array, target);
+        if (javaPos < 0) {
+            assertEquals(javaPos, pos);
+        } else {
+            assertEquals(target, array[pos]);
+        }
+    }
+
+    @Test
+    void searchInt() {
+        int[] array = RandomArrayUtils.generateRandomArray(1000L, 0, 10000);
+        Arrays.sort(array);
+        for (int i = -1; i <= 10000; i++) {
+            assertSearch(array, i, InterpolationSearch.search(array, i));
+            assertSearch(array, i, InterpolationSearch.searchSequential(array, i));
+        }
+        assertEquals(-1, InterpolationSearch.search(new int[0], 0));
+        assertEquals(-1, InterpolationSearch.searchSequential(new int[0], 0));
+    }
+
+    @Test
+    void searchIntSkewed() {
+        int[] array = RandomArrayUtils.generateRandomArray(1000L, 0, 1000);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = array[i] * array[i] * array[i];
+        }
+        array[array.length - 1] = Integer.MAX_VALUE;
+        array[0] = Integer.MIN_VALUE;
+        Arrays.sort(array);
+        for (int value : array) {
+            assertSearch(array, value, InterpolationSearch.search(array, value));
+            assertSearch(array, value, InterpolationSearch.searchSequential(array, value));
+            assertSearch(array, value + 1, InterpolationSearch.search(array, value + 1));
+            assertSearch(array, value + 1, InterpolationSearch.searchSequential(array, value + 1));
+        }
+        int[] constant = {7, 7, 7, 7};
+        assertEquals(7, constant[InterpolationSearch.search(constant, 7)]);
+        assertEquals(7, constant[InterpolationSearch.searchSequential(constant, 7)]);
+    }
+
+    @Test
+    void searchLong() {
+        long[] array = RandomArrayUtils.generateRandomArray(1000L, 0L, 10000L);
+        Arrays.sort(array);
+        for (long i = -1; i <= 10000; i++) {
+            assertSearch(array, i, InterpolationSearch.search(array, i));
+            assertSearch(array, i, InterpolationSearch.searchSequential(array, i));
+        }
+        long[] extremes = {Long.MIN_VALUE, Long.MIN_VALUE + 1, -1L, 0L, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+        for (long value : extremes) {
+            assertSearch(extremes, value, InterpolationSearch.search(extremes, value));
+            assertSearch(extremes, value, InterpolationSearch.searchSequential(extremes, value));
+        }
+        assertSearch(extremes, 1L, InterpolationSearch.search(extremes, 1L));
+        assertSearch(extremes, 1L, InterpolationSearch.searchSequential(extremes, 1L));
+    }
+
+    @Test
+    void searchDouble() {
+        double[] array = RandomArrayUtils.generateDoubleRandomArray(1000L, 0, 10000);
+        Arrays.sort(array);
+        for (int i = 0; i < array.length; i++) {
+            int pos = InterpolationSearch.search(array, array[i]);
+            assertEquals(array[i], array[pos]);
+            pos = InterpolationSearch.searchSequential(array, array[i]);
+            assertEquals(array[i], array[pos]);
+        }
+        assertEquals(-1, InterpolationSearch.search(array, -1.0));
+        assertEquals(-1, InterpolationSearch.searchSequential(array, -1.0));
+        assertEquals(~array.length, InterpolationSearch.search(array, 10001.0));
+        assertEquals(~array.length, InterpolationSearch.searchSequential(array, 10001.0));
+    }
+
+    @Test
+    void searchDoubleEpsilon() {
+        double[] array = RandomArrayUtils.generateDoubleRandomArray(1000L, 0, 10000);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = Math.exp(array[i] / 1000.0);
+        }
+        Arrays.sort(array);
+        double epsilon = 1e-5;
+        for (int i = 0; i < array.length; i++) {
+            int pos = InterpolationSearch.search(array, array[i] + epsilon / 2, epsilon);
+            assertEquals(array[i], array[pos], epsilon);
+            pos = InterpolationSearch.searchSequential(array, array[i] - epsilon / 2, epsilon);
+            assertEquals(array[i], array[pos], epsilon);
+        }
+        assertEquals(-1, InterpolationSearch.search(array, 0.0, epsilon));
+        assertEquals(-1, InterpolationSearch.searchSequential(array, 0.0, epsilon));
+    }
+}
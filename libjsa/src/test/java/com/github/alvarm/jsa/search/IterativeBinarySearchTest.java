@@ -29,6 +29,17 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class IterativeBinarySearchTest {
 
+    private record Sample(int id, long time, double value) {
+    }
+
+    private static Sample[] generateSamples() {
+        int[] ids = RandomArrayUtils.generateRandomArray(100L, 0, 1000);
+        Arrays.sort(ids);
+        return Arrays.stream(ids)
+                .mapToObj(id -> new Sample(id, id * 10L, id / 4.0))
+                .toArray(Sample[]::new);
+    }
+
     @Test
     void searchInt() {
         final int start = 0;
@@ -55,6 +66,28 @@ class IterativeBinarySearchTest {
         }
     }
 
+    @Test
+    void searchIntRange() {
+        int[] array = RandomArrayUtils.generateRandomArray(100L, 0, 1000);
+        Arrays.sort(array, 20, 80);
+        for (int i = -1; i <= 1000; i++) {
+            int pos = IterativeBinarySearch.search(array, 20, 80, i);
+            int javaPos = Arrays.binarySearch(array, 20, 80, i);
+            assertEquals(javaPos, pos);
+        }
+    }
+
+    @Test
+    void searchLongRange() {
+        long[] array = RandomArrayUtils.generateRandomArray(100L, 0L, 1000L);
+        Arrays.sort(array, 20, 80);
+        for (long i = -1; i <= 1000; i++) {
+            int pos = IterativeBinarySearch.search(array, 20, 80, i);
+            int javaPos = Arrays.binarySearch(array, 20, 80, i);
+            assertEquals(javaPos, pos);
+        }
+    }
+
     @Test
     void searchFloat() {
         float[] array = RandomArrayUtils.generateFloatRandomArray(100, 0, 1000);
@@ -136,4 +169,83 @@ class IterativeBinarySearchTest {
             assertEquals(javaPos, pos);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchByIntKey() {
+        Sample[] array = generateSamples();
+        int[] ids = Arrays.stream(array).mapToInt(Sample::id).toArray();
+        for (int i = -1; i <= 1000; i++) {
+            int pos = IterativeBinarySearch.searchByIntKey(array, Sample::id, i);
+            assertEquals(Arrays.binarySearch(ids, i), pos);
+        }
+    }
+
+    @Test
+    void searchByLongKey() {
+        Sample[] array = generateSamples();
+        long[] times = Arrays.stream(array).mapToLong(Sample::time).toArray();
+        for (long i = -10; i <= 10000; i += 5) {
+            int pos = IterativeBinarySearch.searchByLongKey(array, Sample::time, i);
+            assertEquals(Arrays.binarySearch(times, i), pos);
+        }
+    }
+
+    @Test
+    void searchByDoubleKey() {
+        Sample[] array = generateSamples();
+        for (int i = 0; i < array.length; i++) {
+            int pos = IterativeBinarySearch.searchByDoubleKey(array, Sample::value, array[i].value());
+            assertEquals(array[i].value(), array[pos].value());
+            pos = IterativeBinarySearch.searchByDoubleKey(array, Sample::value, array[i].value() + 0.01, 0.1);
+            assertEquals(array[i].value(), array[pos].value());
+        }
+        assertEquals(-1, IterativeBinarySearch.searchByDoubleKey(array, Sample::value, -1.0));
+    }
+
+    @Test
+    void searchTotalOrderFloat() {
+        float[] array = {Float.NEGATIVE_INFINITY, -1.5f, -0.0f, 0.0f, Float.MIN_VALUE, 2.5f,
+                Float.POSITIVE_INFINITY, Float.NaN};
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(i, IterativeBinarySearch.searchTotalOrder(array, array[i]));
+        }
+        assertEquals(~5, IterativeBinarySearch.searchTotalOrder(array, 1.0f));
+        float[] random = RandomArrayUtils.generateFloatRandomArray(100, 0, 1000);
+        Arrays.sort(random);
+        for (float value : random) {
+            int pos = IterativeBinarySearch.searchTotalOrder(random, value);
+            assertEquals(value, random[pos]);
+        }
+    }
+
+    @Test
+    void searchTotalOrderDouble() {
+        double[] array = {Double.NEGATIVE_INFINITY, -1.5d, -0.0d, 0.0d, Double.MIN_VALUE, 2.5d,
+                Double.POSITIVE_INFINITY, Double.NaN};
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(i, IterativeBinarySearch.searchTotalOrder(array, array[i]));
+        }
+        assertEquals(~5, IterativeBinarySearch.searchTotalOrder(array, 1.0d));
+        double[] random = RandomArrayUtils.generateDoubleRandomArray(100, 0, 1000);
+        Arrays.sort(random);
+        for (double value : random) {
+            int pos = IterativeBinarySearch.searchTotalOrder(random, value);
+            assertEquals(value, random[pos]);
+        }
+    }
+
+    @Test
+    void searchWithin() {
+        double[] array = {-3.0d, -1.0d, 0.5d, 2.0d, 10.0d};
+        float[] floats = {-3.0f, -1.0f, 0.5f, 2.0f, 10.0f};
+        assertEquals(2, IterativeBinarySearch.searchWithin(array, 0.5d, 0.0d));
+        assertEquals(2, IterativeBinarySearch.searchWithin(array, 0.6d, 0.2d));
+        assertEquals(3, IterativeBinarySearch.searchWithin(array, 1.9d, 0.2d));
+        assertEquals(~3, IterativeBinarySearch.searchWithin(array, 1.5d, 0.2d));
+        assertEquals(~0, IterativeBinarySearch.searchWithin(array, -5.0d, 1.0d));
+        assertEquals(4, IterativeBinarySearch.searchWithin(array, 11.0d, 1.0d));
+        assertEquals(2, IterativeBinarySearch.searchWithin(floats, 0.6f, 0.2f));
+        assertEquals(3, IterativeBinarySearch.searchWithin(floats, 1.9f, 0.2f));
+        assertEquals(~3, IterativeBinarySearch.searchWithin(floats, 1.5f, 0.2f));
+    }
+}
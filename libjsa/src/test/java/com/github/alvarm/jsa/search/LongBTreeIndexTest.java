@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongBTreeIndexTest {
+
+    @Test
+    void searchLong() {
+        for (int size : new int[]{0, 1, 15, 16, 17, 272, 273, 300, 5000}) {
+            long[] array = RandomArrayUtils.generateRandomArray(size, 0L, 20000L);
+            Arrays.sort(array);
+            array = Arrays.stream(array).distinct().toArray();
+            LongBTreeIndex index = new LongBTreeIndex(array);
+            assertEquals(array.length, index.size());
+            for (long i = -1; i <= 20000; i++) {
+                assertEquals(IterativeBinarySearch.search(array, i), index.search(i));
+            }
+        }
+    }
+
+    @Test
+    void lowerBoundLong() {
+        long[] array = RandomArrayUtils.generateRandomArray(3000L, 0L, 100L);
+        Arrays.sort(array);
+        LongBTreeIndex index = new LongBTreeIndex(array);
+        for (long i = -1; i <= 100; i++) {
+            int expected = 0;
+            while (expected < array.length && array[expected] < i) {
+                expected++;
+            }
+            assertEquals(expected, index.lowerBound(i));
+        }
+    }
+
+    @Test
+    void searchLongLimits() {
+        long[] array = {Long.MIN_VALUE, -1, 0, 1, Long.MAX_VALUE, Long.MAX_VALUE};
+        LongBTreeIndex index = new LongBTreeIndex(array);
+        for (int i = 0; i < array.length - 1; i++) {
+            assertEquals(i, index.search(array[i]));
+        }
+        assertEquals(~1, index.search(-2L));
+        assertEquals(~4, index.search(Long.MAX_VALUE - 1));
+        assertEquals(-1, new LongBTreeIndex(new long[0]).search(Long.MAX_VALUE));
+    }
+}
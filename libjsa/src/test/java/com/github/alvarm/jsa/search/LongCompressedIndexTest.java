@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongCompressedIndexTest {
+
+    @Test
+    void searchSmallGaps() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        long[] array = new long[100_000];
+        for (int i = 1; i < array.length; i++) {
+            array[i] = array[i - 1] + rng.nextInt(0, 16);
+        }
+        LongCompressedIndex index = new LongCompressedIndex(array);
+        assertEquals(array.length, index.size());
+        assertEquals((array.length + LongCompressedIndex.BLOCK_SIZE - 1) / LongCompressedIndex.BLOCK_SIZE, index.blocks());
+        for (long i = -1; i <= array[array.length - 1] + 1; i++) {
+            int position = index.search(i);
+            int expected = Arrays.binarySearch(array, i);
+            if (expected < 0) {
+                assertEquals(expected, position);
+            } else {
+                assertEquals(i, array[position]);
+            }
+        }
+        assertTrue(index.memoryFootprint() * 6 < (long) array.length * Long.BYTES,
+                "Footprint " + index.memoryFootprint());
+    }
+
+    @Test
+    void searchFullRange() {
+        long[] array = RandomArrayUtils.generateRandomArray(10_000L, Long.MIN_VALUE, Long.MAX_VALUE);
+        array[0] = Long.MIN_VALUE;
+        array[1] = Long.MAX_VALUE;
+        Arrays.sort(array);
+        LongCompressedIndex index = new LongCompressedIndex(array);
+        assertArrayEquals(array, index.toArray());
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(array[i], array[index.search(array[i])]);
+            assertEquals(array[i], index.get(i));
+        }
+    }
+
+    @Test
+    void decodeBlocks() {
+        long[] array = new long[1000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i / 300;
+        }
+        LongCompressedIndex index = new LongCompressedIndex(array);
+        long[] out = new long[LongCompressedIndex.BLOCK_SIZE + 1];
+        assertEquals(LongCompressedIndex.BLOCK_SIZE, index.decodeBlock(2, out, 1));
+        assertArrayEquals(Arrays.copyOfRange(array, 2 * LongCompressedIndex.BLOCK_SIZE, 3 * LongCompressedIndex.BLOCK_SIZE),
+                Arrays.copyOfRange(out, 1, out.length));
+        assertEquals(1000 - 7 * LongCompressedIndex.BLOCK_SIZE, index.decodeBlock(7, out, 0));
+        assertArrayEquals(Arrays.copyOfRange(array, 7 * LongCompressedIndex.BLOCK_SIZE, 1000),
+                Arrays.copyOf(out, 1000 - 7 * LongCompressedIndex.BLOCK_SIZE));
+        assertArrayEquals(array, index.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> index.get(1000));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.decodeBlock(8, out, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.decodeBlock(2, out, 2));
+    }
+
+    @Test
+    void emptyArray() {
+        LongCompressedIndex index = new LongCompressedIndex(new long[0]);
+        assertEquals(~0, index.search(5));
+        assertEquals(0, index.toArray().length);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedIndexFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void searchInt() throws IOException {
+        int[] array = RandomArrayUtils.generateRandomArray(1000L, 0, 10000);
+        Arrays.sort(array);
+        array = Arrays.stream(array).distinct().toArray();
+        for (IndexLayout layout : IndexLayout.values()) {
+            for (ByteOrder order : new ByteOrder[]{ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN}) {
+                Path path = directory.resolve(layout + "-" + order + ".int");
+                IndexFileWriter.write(path, array, layout, order);
+                try (Arena arena = Arena.ofConfined()) {
+                    MappedIndexFile index = MappedIndexFile.open(path, arena);
+                    assertEquals(layout, index.layout());
+                    assertEquals(order, index.order());
+                    assertEquals(int.class, index.keyType());
+                    assertEquals(array.length, index.size());
+                    for (int i = -1; i <= 10000; i++) {
+                        assertEquals(IterativeBinarySearch.search(array, i), index.search(i));
+                    }
+                    assertEquals(-1L, index.search(Long.MIN_VALUE));
+                    assertEquals(~(long) array.length, index.search(Long.MAX_VALUE));
+                }
+            }
+        }
+    }
+
+    @Test
+    void searchLong() throws IOException {
+        long[] array = RandomArrayUtils.generateRandomArray(1000L, 0L, 10000L);
+        Arrays.sort(array);
+        array = Arrays.stream(array).distinct().toArray();
+        for (IndexLayout layout : IndexLayout.values()) {
+            for (ByteOrder order : new ByteOrder[]{ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN}) {
+                Path path = directory.resolve(layout + "-" + order + ".long");
+                IndexFileWriter.write(path, array, layout, order);
+                try (Arena arena = Arena.ofConfined()) {
+                    MappedIndexFile index = MappedIndexFile.open(path, arena);
+                    assertEquals(long.class, index.keyType());
+                    assertEquals(array.length, index.size());
+                    for (long i = -1; i <= 10000; i++) {
+                        assertEquals(IterativeBinarySearch.search(array, i), index.search(i));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void searchEmpty() throws IOException {
+        for (IndexLayout layout : IndexLayout.values()) {
+            Path path = directory.resolve(layout + ".empty");
+            IndexFileWriter.write(path, new long[0], layout, ByteOrder.nativeOrder());
+            try (Arena arena = Arena.ofConfined()) {
+                assertEquals(-1L, MappedIndexFile.open(path, arena).search(0L));
+            }
+        }
+    }
+
+    @Test
+    void openInvalid() throws IOException {
+        Path path = directory.resolve("invalid");
+        Files.write(path, new byte[IndexFileWriter.HEADER_SIZE]);
+        try (Arena arena = Arena.ofConfined()) {
+            assertThrows(IOException.class, () -> MappedIndexFile.open(path, arena));
+        }
+        Files.write(path, new byte[]{'J', 'S', 'A', 'I'});
+        try (Arena arena = Arena.ofConfined()) {
+            assertThrows(IOException.class, () -> MappedIndexFile.open(path, arena));
+        }
+    }
+
+    @Test
+    void searchAfterClose() throws IOException {
+        Path path = directory.resolve("closed");
+        IndexFileWriter.write(path, new int[]{1, 2, 3}, IndexLayout.SORTED, ByteOrder.nativeOrder());
+        MappedIndexFile index;
+        try (Arena arena = Arena.ofConfined()) {
+            index = MappedIndexFile.open(path, arena);
+        }
+        assertThrows(IllegalStateException.class, () -> index.search(2L));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearestSearchTest {
+
+    private static int expectedNearest(long[] array, long target) {
+        int floor = -1;
+        int ceiling = -1;
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] <= target) {
+                floor = i;
+            } else if (ceiling < 0) {
+                ceiling = i;
+            }
+        }
+        if (floor < 0 || ceiling < 0) {
+            return Math.max(floor, ceiling);
+        }
+        return (array[ceiling] - target < target - array[floor]) ? ceiling : floor;
+    }
+
+    private static int expectedNearest(double[] array, double target) {
+        int floor = -1;
+        int ceiling = -1;
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] <= target) {
+                floor = i;
+            } else if (ceiling < 0) {
+                ceiling = i;
+            }
+        }
+        if (floor < 0 || ceiling < 0) {
+            return Math.max(floor, ceiling);
+        }
+        return (array[ceiling] - target < target - array[floor]) ? ceiling : floor;
+    }
+
+    @Test
+    void searchLong() {
+        long[] array = RandomArrayUtils.generateRandomArray(2_000L, -5_000L, 5_000L);
+        Arrays.sort(array);
+        long[] targets = RandomArrayUtils.generateRandomArray(4_000L, -6_000L, 6_000L);
+        Arrays.sort(targets);
+        int[] floors = new int[targets.length];
+        int[] ceilings = new int[targets.length];
+        int[] nearest = new int[targets.length];
+        int[] within = new int[targets.length];
+        NearestSearch.floorAll(array, targets, floors);
+        NearestSearch.ceilingAll(array, targets, ceilings);
+        NearestSearch.nearestAll(array, targets, nearest);
+        NearestSearch.nearestWithinAll(array, targets, 2L, within);
+        for (int i = 0; i < targets.length; i++) {
+            long target = targets[i];
+            int upper = RangeSearch.upperBound(array, target);
+            int lower = RangeSearch.lowerBound(array, target);
+            assertEquals(upper - 1, NearestSearch.floor(array, target));
+            assertEquals(lower < array.length ? lower : -1, NearestSearch.ceiling(array, target));
+            int position = expectedNearest(array, target);
+            assertEquals(position, NearestSearch.nearest(array, target));
+            int accepted = Math.abs(array[position] - target) <= 2L ? position : -1;
+            assertEquals(accepted, NearestSearch.nearestWithin(array, target, 2L));
+            assertEquals(NearestSearch.floor(array, target), floors[i]);
+            assertEquals(NearestSearch.ceiling(array, target), ceilings[i]);
+            assertEquals(position, nearest[i]);
+            assertEquals(accepted, within[i]);
+        }
+    }
+
+    @Test
+    void searchLongExtremes() {
+        long[] array = {Long.MIN_VALUE, -1L, Long.MAX_VALUE};
+        assertEquals(0, NearestSearch.nearest(array, Long.MIN_VALUE / 2 - 1));
+        assertEquals(1, NearestSearch.nearest(array, Long.MIN_VALUE / 2 + 1));
+        assertEquals(2, NearestSearch.nearest(array, Long.MAX_VALUE / 2 + 1));
+        assertEquals(1, NearestSearch.nearestWithin(array, Long.MAX_VALUE / 2, Long.MAX_VALUE / 2 + 1));
+        assertEquals(-1, NearestSearch.nearestWithin(array, Long.MAX_VALUE / 2, Long.MAX_VALUE / 2));
+        assertEquals(2, NearestSearch.nearestWithin(array, Long.MAX_VALUE, 0L));
+        assertEquals(-1, NearestSearch.nearestWithin(array, 0L, -1L));
+        assertEquals(-1, NearestSearch.floor(new long[0], 0L));
+        assertEquals(-1, NearestSearch.ceiling(new long[]{1L, 2L}, 3L));
+        assertEquals(-1, NearestSearch.nearest(new long[0], 0L));
+        assertThrows(IllegalArgumentException.class,
+                () -> NearestSearch.floorAll(array, new long[2], new int[1]));
+    }
+
+    @Test
+    void searchDouble() {
+        double[] array = RandomArrayUtils.generateDoubleRandomArray(2_000L, -1_000, 1_000);
+        Arrays.sort(array);
+        double[] targets = RandomArrayUtils.generateDoubleRandomArray(4_000L, -1_200, 1_200);
+        System.arraycopy(array, 0, targets, 0, 500);
+        Arrays.sort(targets);
+        int[] floors = new int[targets.length];
+        int[] ceilings = new int[targets.length];
+        int[] nearest = new int[targets.length];
+        int[] within = new int[targets.length];
+        NearestSearch.floorAll(array, targets, floors);
+        NearestSearch.ceilingAll(array, targets, ceilings);
+        NearestSearch.nearestAll(array, targets, nearest);
+        NearestSearch.nearestWithinAll(array, targets, 0.25d, within);
+        for (int i = 0; i < targets.length; i++) {
+            double target = targets[i];
+            int upper = RangeSearch.upperBound(array, target);
+            int lower = RangeSearch.lowerBound(array, target);
+            assertEquals(upper - 1, NearestSearch.floor(array, target));
+            assertEquals(lower < array.length ? lower : -1, NearestSearch.ceiling(array, target));
+            int position = expectedNearest(array, target);
+            assertEquals(position, NearestSearch.nearest(array, target));
+            int accepted = Math.abs(array[position] - target) <= 0.25d ? position : -1;
+            assertEquals(accepted, NearestSearch.nearestWithin(array, target, 0.25d));
+            assertEquals(NearestSearch.floor(array, target), floors[i]);
+            assertEquals(NearestSearch.ceiling(array, target), ceilings[i]);
+            assertEquals(position, nearest[i]);
+            assertEquals(accepted, within[i]);
+        }
+    }
+
+    @Test
+    void searchFloat() {
+        float[] array = {-0.0f, 0.0f, 1.5f, 1.5f, 2.0f, Float.POSITIVE_INFINITY, Float.NaN};
+        assertEquals(0, NearestSearch.floor(array, -0.0f));
+        assertEquals(1, NearestSearch.ceiling(array, 0.0f));
+        assertEquals(3, NearestSearch.floor(array, 1.75f));
+        assertEquals(3, NearestSearch.nearest(array, 1.75f));
+        assertEquals(4, NearestSearch.nearest(array, 1.8f));
+        assertEquals(-1, NearestSearch.floor(array, Float.NEGATIVE_INFINITY));
+        assertEquals(5, NearestSearch.nearestWithin(array, Float.POSITIVE_INFINITY, 0.0f));
+        assertEquals(6, NearestSearch.nearestWithin(array, Float.NaN, 0.0f));
+        assertEquals(-1, NearestSearch.nearestWithin(array, 3.0f, 0.5f));
+        float[] targets = {-1.0f, 0.0f, 1.6f, 1.9f, 100.0f};
+        int[] out = new int[targets.length];
+        NearestSearch.nearestAll(array, targets, out);
+        assertArrayEquals(new int[]{0, 1, 3, 4, 4}, out);
+        NearestSearch.floorAll(array, targets, out);
+        assertArrayEquals(new int[]{-1, 1, 3, 3, 4}, out);
+        NearestSearch.ceilingAll(array, targets, out);
+        assertArrayEquals(new int[]{0, 1, 4, 4, 5}, out);
+        NearestSearch.nearestWithinAll(array, targets, 0.15f, out);
+        assertArrayEquals(new int[]{-1, 1, 3, 4, -1}, out);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelLinearSearchTest {
+
+    private static final int SIZE = 1_000_000;
+
+    @Test
+    void searchInt() {
+        int[] array = RandomArrayUtils.generateRandomArray(SIZE, 0, 1_000_000);
+        for (int i = 0; i < array.length; i += 9973) {
+            assertEquals(LinearSearch.search(array, array[i]), ParallelLinearSearch.search(array, array[i]));
+        }
+        assertEquals(-1, ParallelLinearSearch.search(array, -1));
+        int[] small = RandomArrayUtils.generateRandomArray(100L, 0, 1000);
+        assertEquals(LinearSearch.search(small, small[50]), ParallelLinearSearch.search(small, small[50]));
+    }
+
+    @Test
+    void searchIntFirstOccurrence() {
+        int[] array = new int[SIZE];
+        array[SIZE - 1] = 1;
+        array[SIZE / 2] = 1;
+        array[SIZE / 3] = 1;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            assertEquals(SIZE / 3, ParallelLinearSearch.search(array, 1, pool));
+            assertEquals(0, ParallelLinearSearch.search(array, 0, pool));
+            assertEquals(-1, ParallelLinearSearch.search(array, 2, pool));
+        }
+    }
+
+    @Test
+    void searchLong() {
+        long[] array = RandomArrayUtils.generateRandomArray(SIZE, 0L, 1_000_000L);
+        for (int i = 0; i < array.length; i += 9973) {
+            assertEquals(LinearSearch.search(array, array[i]), ParallelLinearSearch.search(array, array[i]));
+        }
+        assertEquals(-1, ParallelLinearSearch.search(array, -1L));
+    }
+
+    @Test
+    void searchFloat() {
+        float[] array = RandomArrayUtils.generateFloatRandomArray(SIZE, 0, 1_000_000);
+        for (int i = 0; i < array.length; i += 9973) {
+            assertEquals(LinearSearch.search(array, array[i]), ParallelLinearSearch.search(array, array[i]));
+            assertEquals(LinearSearch.search(array, array[i], 0.5f),
+                    ParallelLinearSearch.search(array, array[i], 0.5f));
+        }
+        assertEquals(-1, ParallelLinearSearch.search(array, -1.0f));
+    }
+
+    @Test
+    void searchDouble() {
+        double[] array = RandomArrayUtils.generateDoubleRandomArray(SIZE, 0, 1_000_000);
+        for (int i = 0; i < array.length; i += 9973) {
+            assertEquals(LinearSearch.search(array, array[i]), ParallelLinearSearch.search(array, array[i]));
+            assertEquals(LinearSearch.search(array, array[i], 0.5),
+                    ParallelLinearSearch.search(array, array[i], 0.5));
+        }
+        assertEquals(-1, ParallelLinearSearch.search(array, -1.0));
+    }
+
+    @Test
+    void searchGeneric() {
+        Integer[] array = RandomArrayUtils.generateRandomBoxedArray(SIZE, 0, 1_000_000);
+        for (int i = 0; i < array.length; i += 9973) {
+            assertEquals(LinearSearch.search(array, array[i]), ParallelLinearSearch.search(array, array[i]));
+        }
+        assertEquals(-1, ParallelLinearSearch.search(array, -1));
+    }
+}
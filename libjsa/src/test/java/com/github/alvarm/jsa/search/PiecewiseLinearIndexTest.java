@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PiecewiseLinearIndexTest {
+
+    private static void assertSearch(long[] array, PiecewiseLinearIndex index, long target) {
+        int pos = index.search(target);
+        int javaPos = Arrays.binarySearch(array, target);
+        if (javaPos < 0) {
+            assertEquals(javaPos, pos);
+        } else {
+            assertEquals(target, array[pos]);
+        }
+    }
+
+    @Test
+    void searchLong() {
+        long[] array = RandomArrayUtils.generateRandomArray(10000L, 0L, 100000L);
+        Arrays.sort(array);
+        for (int maxError : new int[]{0, 1, 4, 64}) {
+            PiecewiseLinearIndex index = new PiecewiseLinearIndex(array, maxError);
+            assertEquals(maxError, index.maxError());
+            for (long i = -1; i <= 100000; i++) {
+                assertSearch(array, index, i);
+            }
+        }
+    }
+
+    @Test
+    void searchLongDuplicates() {
+        long[] array = RandomArrayUtils.generateRandomArray(10000L, 0L, 100L);
+        for (int i = 0; i < array.length; i++) {
+            array[i] = array[i] * array[i] * 1000L;
+        }
+        Arrays.sort(array);
+        PiecewiseLinearIndex index = new PiecewiseLinearIndex(array, 2);
+        for (long i = -1; i <= 10_000_000L; i += 997) {
+            assertSearch(array, index, i);
+        }
+        for (long value : array) {
+            assertSearch(array, index, value);
+            assertSearch(array, index, value + 1);
+        }
+    }
+
+    @Test
+    void searchLongLimits() {
+        long[] array = {Long.MIN_VALUE, Long.MIN_VALUE + 1, -5L, 0L, 3L, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+        PiecewiseLinearIndex index = new PiecewiseLinearIndex(array, 1);
+        for (long value : array) {
+            assertSearch(array, index, value);
+        }
+        for (long value : new long[]{Long.MIN_VALUE + 2, -6L, 1L, 4L, Long.MAX_VALUE - 2}) {
+            assertSearch(array, index, value);
+        }
+        assertEquals(-1, new PiecewiseLinearIndex(new long[0], 1).search(0L));
+    }
+
+    @Test
+    void modelSize() {
+        long[] array = new long[100000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = 3L * i;
+        }
+        PiecewiseLinearIndex index = new PiecewiseLinearIndex(array, 0);
+        assertEquals(1, index.segments());
+        assertEquals(Long.BYTES + Integer.BYTES + Double.BYTES, index.memoryFootprint());
+        long[] random = RandomArrayUtils.generateRandomArray(100000L, 0L, 1L << 40);
+        Arrays.sort(random);
+        assertTrue(new PiecewiseLinearIndex(random, 64).segments() < new PiecewiseLinearIndex(random, 4).segments());
+        assertThrows(IllegalArgumentException.class, () -> new PiecewiseLinearIndex(array, -1));
+    }
+}
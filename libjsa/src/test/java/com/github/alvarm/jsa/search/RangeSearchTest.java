@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeSearchTest {
+
+    @Test
+    void boundsInt() {
+        int[] array = RandomArrayUtils.generateRandomArray(1000L, 0, 50);
+        Arrays.sort(array);
+        for (int i = -1; i <= 51; i++) {
+            int lower = 0;
+            while (lower < array.length && array[lower] < i) {
+                lower++;
+            }
+            int upper = lower;
+            while (upper < array.length && array[upper] == i) {
+                upper++;
+            }
+            assertEquals(lower, RangeSearch.lowerBound(array, i));
+            assertEquals(upper, RangeSearch.upperBound(array, i));
+            long range = RangeSearch.equalRange(array, i);
+            assertEquals(lower, RangeSearch.rangeStart(range));
+            assertEquals(upper, RangeSearch.rangeEnd(range));
+            assertEquals(upper - lower, RangeSearch.count(array, i, i));
+        }
+    }
+
+    @Test
+    void boundsLong() {
+        long[] array = RandomArrayUtils.generateRandomArray(1000L, 0L, 50L);
+        Arrays.sort(array);
+        for (long i = -1; i <= 51; i++) {
+            long range = RangeSearch.equalRange(array, i);
+            int start = RangeSearch.rangeStart(range);
+            int end = RangeSearch.rangeEnd(range);
+            assertEquals(RangeSearch.lowerBound(array, i), start);
+            assertEquals(RangeSearch.upperBound(array, i), end);
+            assertTrue(start == 0 || array[start - 1] < i);
+            assertTrue(end == array.length || array[end] > i);
+            for (int j = start; j < end; j++) {
+                assertEquals(i, array[j]);
+            }
+        }
+    }
+
+    @Test
+    void boundsFloatAndDouble() {
+        float[] floats = {-1.0f, -0.0f, 0.0f, 0.0f, 2.0f, 2.0f, 2.0f, Float.NaN};
+        assertEquals(1, RangeSearch.lowerBound(floats, -0.0f));
+        assertEquals(2, RangeSearch.upperBound(floats, -0.0f));
+        assertEquals(2, RangeSearch.lowerBound(floats, 0.0f));
+        assertEquals(4, RangeSearch.upperBound(floats, 0.0f));
+        assertEquals(3, RangeSearch.count(floats, 1.0f, 2.0f));
+        assertEquals(7, RangeSearch.lowerBound(floats, Float.NaN));
+        assertEquals(0, RangeSearch.count(floats, 3.0f, 1.0f));
+        double[] doubles = {-1.0d, -0.0d, 0.0d, 0.0d, 2.0d, 2.0d, 2.0d, Double.NaN};
+        long range = RangeSearch.equalRange(doubles, 2.0d);
+        assertEquals(4, RangeSearch.rangeStart(range));
+        assertEquals(7, RangeSearch.rangeEnd(range));
+        assertEquals(8, RangeSearch.count(doubles, Double.NEGATIVE_INFINITY, Double.NaN));
+        assertEquals(~4, IterativeBinarySearch.searchTotalOrder(doubles, 1.0d));
+        assertEquals(4, RangeSearch.lowerBound(doubles, 1.0d));
+    }
+
+    @Test
+    void boundsGeneric() {
+        Integer[] array = RandomArrayUtils.generateRandomBoxedArray(1000L, 0, 50);
+        Arrays.sort(array);
+        int[] primitive = Arrays.stream(array).mapToInt(Integer::intValue).toArray();
+        Integer[] reversed = array.clone();
+        Arrays.sort(reversed, Comparator.reverseOrder());
+        for (int i = -1; i <= 51; i++) {
+            assertEquals(RangeSearch.equalRange(primitive, i), RangeSearch.equalRange(array, i));
+            assertEquals(RangeSearch.count(primitive, i, i + 5), RangeSearch.count(array, i, i + 5));
+            long range = RangeSearch.equalRange(reversed, i, Comparator.reverseOrder());
+            int start = RangeSearch.rangeStart(range);
+            int end = RangeSearch.rangeEnd(range);
+            assertEquals(RangeSearch.count(primitive, i, i), end - start);
+            for (int j = start; j < end; j++) {
+                assertEquals(i, reversed[j]);
+            }
+        }
+    }
+
+    @Test
+    void emptyArray() {
+        assertEquals(0, RangeSearch.lowerBound(new int[0], 1));
+        assertEquals(0, RangeSearch.upperBound(new long[0], 1L));
+        assertEquals(0L, RangeSearch.equalRange(new double[0], 1.0d));
+        assertEquals(0, RangeSearch.count(new Integer[0], 0, 10));
+    }
+}
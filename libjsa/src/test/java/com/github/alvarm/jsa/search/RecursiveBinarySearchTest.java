@@ -127,4 +127,36 @@ class RecursiveBinarySearchTest {
             assertEquals(javaPos, pos);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchTotalOrderFloat() {
+        float[] array = {Float.NEGATIVE_INFINITY, -1.5f, -0.0f, 0.0f, Float.MIN_VALUE, 2.5f,
+                Float.POSITIVE_INFINITY, Float.NaN};
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(i, RecursiveBinarySearch.searchTotalOrder(array, array[i]));
+        }
+        assertEquals(~5, RecursiveBinarySearch.searchTotalOrder(array, 1.0f));
+        float[] random = RandomArrayUtils.generateFloatRandomArray(100, 0, 1000);
+        Arrays.sort(random);
+        for (float value : random) {
+            int pos = RecursiveBinarySearch.searchTotalOrder(random, value);
+            assertEquals(value, random[pos]);
+        }
+    }
+
+    @Test
+    void searchTotalOrderDouble() {
+        double[] array = {Double.NEGATIVE_INFINITY, -1.5d, -0.0d, 0.0d, Double.MIN_VALUE, 2.5d,
+                Double.POSITIVE_INFINITY, Double.NaN};
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(i, RecursiveBinarySearch.searchTotalOrder(array, array[i]));
+        }
+        assertEquals(~5, RecursiveBinarySearch.searchTotalOrder(array, 1.0d));
+        double[] random = RandomArrayUtils.generateDoubleRandomArray(100, 0, 1000);
+        Arrays.sort(random);
+        for (double value : random) {
+            int pos = RecursiveBinarySearch.searchTotalOrder(random, value);
+            assertEquals(value, random[pos]);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentLinearSearchTest {
+
+    @Test
+    void searchInt() {
+        int[] array = RandomArrayUtils.generateRandomArray(100L, 0, 1000);
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN}) {
+            ValueLayout.OfInt layout = ValueLayout.JAVA_INT.withOrder(order);
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment segment = arena.allocate(layout.byteSize() * array.length, layout.byteAlignment());
+                for (int i = 0; i < array.length; i++) {
+                    segment.setAtIndex(layout, i, array[i]);
+                }
+                for (int i = -1; i <= 1000; i++) {
+                    assertEquals(LinearSearch.search(array, i), SegmentLinearSearch.search(segment, layout, i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void searchLong() {
+        long[] array = RandomArrayUtils.generateRandomArray(100L, 0L, 1000L);
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN}) {
+            ValueLayout.OfLong layout = ValueLayout.JAVA_LONG.withOrder(order);
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment segment = arena.allocate(layout.byteSize() * array.length, layout.byteAlignment());
+                for (int i = 0; i < array.length; i++) {
+                    segment.setAtIndex(layout, i, array[i]);
+                }
+                for (long i = -1; i <= 1000; i++) {
+                    assertEquals(LinearSearch.search(array, i), SegmentLinearSearch.search(segment, layout, i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void searchDouble() {
+        double[] array = RandomArrayUtils.generateDoubleRandomArray(100L, 0, 1000);
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN}) {
+            ValueLayout.OfDouble layout = ValueLayout.JAVA_DOUBLE.withOrder(order);
+            try (Arena arena = Arena.ofConfined()) {
+                MemorySegment segment = arena.allocate(layout.byteSize() * array.length, layout.byteAlignment());
+                for (int i = 0; i < array.length; i++) {
+                    segment.setAtIndex(layout, i, array[i]);
+                }
+                for (int i = -1; i <= 1000; i++) {
+                    assertEquals(LinearSearch.search(array, i), SegmentLinearSearch.search(segment, layout, i));
+                    assertEquals(LinearSearch.search(array, i, 0.5),
+                            SegmentLinearSearch.search(segment, layout, i, 0.5));
+                }
+            }
+        }
+    }
+
+    @Test
+    void searchEmpty() {
+        assertEquals(-1L, SegmentLinearSearch.search(MemorySegment.NULL, ValueLayout.JAVA_LONG, 0L));
+    }
+}
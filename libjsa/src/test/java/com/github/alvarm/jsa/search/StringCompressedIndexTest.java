@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringCompressedIndexTest {
+
+    private static final char[] ALPHABET = {'a', 'b', 'c', 'z', 'é', 'ß', '中', '�'};
+
+    private static String[] randomTerms(int count, int maxLength) {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        String[] terms = new String[count];
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.setLength(0);
+            int length = rng.nextInt(maxLength + 1);
+            for (int j = 0; j < length; j++) {
+                builder.append(ALPHABET[rng.nextInt(ALPHABET.length)]);
+            }
+            terms[i] = builder.toString();
+        }
+        Arrays.sort(terms);
+        return terms;
+    }
+
+    @Test
+    void searchPresentTerms() {
+        String[] terms = Arrays.stream(randomTerms(20_000, 12)).distinct().toArray(String[]::new);
+        StringCompressedIndex index = new StringCompressedIndex(terms);
+        assertEquals(terms.length, index.size());
+        assertEquals((terms.length + StringCompressedIndex.BUCKET_SIZE - 1) / StringCompressedIndex.BUCKET_SIZE,
+                index.buckets());
+        for (int i = 0; i < terms.length; i++) {
+            assertEquals(i, index.search(terms[i]), terms[i]);
+            assertEquals(i, index.search(terms[i].getBytes(StandardCharsets.UTF_8)));
+            assertEquals(terms[i], index.get(i));
+        }
+        assertArrayEquals(terms, index.toArray());
+    }
+
+    @Test
+    void searchMissingTerms() {
+        String[] terms = randomTerms(5_000, 8);
+        String[] targets = randomTerms(5_000, 9);
+        StringCompressedIndex index = new StringCompressedIndex(terms);
+        for (String target : targets) {
+            int expected = Arrays.binarySearch(terms, target);
+            int position = index.search(target);
+            if (expected < 0) {
+                assertEquals(expected, position, target);
+            } else {
+                assertEquals(target, terms[position]);
+            }
+            assertEquals(expected >= 0, index.contains(target));
+        }
+    }
+
+    @Test
+    void searchSharedPrefixes() {
+        String[] terms = new String[1000];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = String.format("https://example.com/items/%06d", i * 2);
+        }
+        StringCompressedIndex index = new StringCompressedIndex(terms);
+        for (int i = 0; i < 2 * terms.length + 1; i++) {
+            String target = String.format("https://example.com/items/%06d", i);
+            assertEquals(Arrays.binarySearch(terms, target), index.search(target));
+        }
+        assertEquals(~0, index.search("https://example.com"));
+        assertEquals(~0, index.search(""));
+        assertEquals(~terms.length, index.search("https://example.com/items/999999/"));
+        assertTrue(index.memoryFootprint() * 4 < Arrays.stream(terms).mapToLong(String::length).sum());
+    }
+
+    @Test
+    void getOutOfRange() {
+        StringCompressedIndex index = new StringCompressedIndex(new String[]{"", "a", "a", "ab"});
+        assertEquals("", index.get(0));
+        assertEquals("ab", index.get(3));
+        assertEquals(0, index.search(""));
+        assertTrue(index.search("a") == 1 || index.search("a") == 2);
+        assertThrows(IndexOutOfBoundsException.class, () -> index.get(4));
+    }
+
+    @Test
+    void emptyArray() {
+        StringCompressedIndex index = new StringCompressedIndex(new String[0]);
+        assertEquals(~0, index.search("a"));
+        assertEquals(0, index.toArray().length);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.search;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorLinearSearchTest {
+
+    @Test
+    void isVectorized() {
+        assertTrue(VectorLinearSearch.isVectorized());
+    }
+
+    @Test
+    void searchInt() {
+        for (int size = 0; size < 70; size++) {
+            int[] array = RandomArrayUtils.generateRandomArray(size, 0, 50);
+            for (int i = -1; i <= 50; i++) {
+                assertEquals(LinearSearch.search(array, i), VectorLinearSearch.search(array, i));
+            }
+        }
+    }
+
+    @Test
+    void searchLong() {
+        for (int size = 0; size < 70; size++) {
+            long[] array = RandomArrayUtils.generateRandomArray(size, 0L, 50L);
+            for (long i = -1; i <= 50; i++) {
+                assertEquals(LinearSearch.search(array, i), VectorLinearSearch.search(array, i));
+            }
+        }
+    }
+
+    @Test
+    void searchFloat() {
+        for (int size = 0; size < 70; size++) {
+            float[] array = RandomArrayUtils.generateFloatRandomArray(size, 0, 50);
+            for (int i = -1; i <= 50; i++) {
+                assertEquals(LinearSearch.search(array, i), VectorLinearSearch.search(array, i));
+                assertEquals(LinearSearch.search(array, i + 0.25f, 0.5f),
+                        VectorLinearSearch.search(array, i + 0.25f, 0.5f));
+            }
+        }
+        float[] array = {1.0f, Float.NaN, 2.0f};
+        assertEquals(LinearSearch.search(array, 2.0f), VectorLinearSearch.search(array, 2.0f));
+    }
+
+    @Test
+    void searchDouble() {
+        for (int size = 0; size < 70; size++) {
+            double[] array = RandomArrayUtils.generateDoubleRandomArray(size, 0, 50);
+            for (int i = -1; i <= 50; i++) {
+                assertEquals(LinearSearch.search(array, i), VectorLinearSearch.search(array, i));
+                assertEquals(LinearSearch.search(array, i + 0.25, 0.5),
+                        VectorLinearSearch.search(array, i + 0.25, 0.5));
+            }
+        }
+        double[] array = {1.0, Double.NaN, 2.0};
+        assertEquals(LinearSearch.search(array, 2.0), VectorLinearSearch.search(array, 2.0));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.sorting;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelMergeSortTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private record Entry(int key, int order) {
+    }
+
+    private static Entry[] generateEntries(int size, int distinctKeys) {
+        int[] keys = RandomArrayUtils.generateRandomArray(size, 0, distinctKeys);
+        Entry[] entries = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry(keys[i], i);
+        }
+        return entries;
+    }
+
+    @Test
+    void sortComparable() {
+        for (int size : new int[]{0, 1, 31, 1000, 100_000}) {
+            Integer[] array = RandomArrayUtils.generateRandomBoxedArray(size, 0, 1_000_000);
+            Integer[] expected = array.clone();
+            Arrays.sort(expected);
+            ParallelMergeSort.sort(array, POOL);
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    void sortStrings() {
+        String[] array = Arrays.stream(RandomArrayUtils.generateRandomArray(200_000L, 0, 1_000_000))
+                .mapToObj(Integer::toString)
+                .toArray(String[]::new);
+        String[] expected = array.clone();
+        Arrays.sort(expected);
+        ParallelMergeSort.sort(array, POOL);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void sortIsStable() {
+        for (int size : new int[]{100, 10_000, 500_000}) {
+            Entry[] array = generateEntries(size, 100);
+            Entry[] expected = array.clone();
+            Arrays.sort(expected, Comparator.comparingInt(Entry::key));
+            ParallelMergeSort.sort(array, Comparator.comparingInt(Entry::key), POOL);
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    void sortSortedAndReversed() {
+        Entry[] array = generateEntries(300_000, 1000);
+        Comparator<Entry> comparator = Comparator.comparingInt(Entry::key);
+        Arrays.sort(array, comparator);
+        Entry[] expected = array.clone();
+        ParallelMergeSort.sort(array, comparator, POOL);
+        assertArrayEquals(expected, array);
+        Entry[] reversed = array.clone();
+        Comparator<Entry> reverse = comparator.reversed();
+        Arrays.sort(expected, reverse);
+        ParallelMergeSort.sort(reversed, reverse);
+        assertArrayEquals(expected, reversed);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.sorting;
+
+import com.github.alvarm.jsa.arrays.RandomArrayUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelRadixSortTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @Test
+    void sortInt() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        int[] array = rng.ints(1000000).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        ParallelRadixSort.sort(array, POOL);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void sortIntDuplicates() {
+        int[] array = RandomArrayUtils.generateRandomArray(1000000L, -10, 10);
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        ParallelRadixSort.sort(array, POOL);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void sortLong() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        long[] array = rng.longs(1000000).toArray();
+        array[0] = Long.MIN_VALUE;
+        array[1] = Long.MAX_VALUE;
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+        ParallelRadixSort.sort(array, POOL);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void sortFloat() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        float[] array = new float[1000000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (rng.nextFloat() - 0.5f) * 1000.0f;
+        }
+        array[0] = -0.0f;
+        array[1] = 0.0f;
+        array[2] = Float.NaN;
+        array[3] = Float.NEGATIVE_INFINITY;
+        array[4] = Float.POSITIVE_INFINITY;
+        float[] expected = array.clone();
+        Arrays.sort(expected);
+        ParallelRadixSort.sort(array, POOL);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void sortDouble() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        double[] array = rng.doubles(1000000, -1000.0d, 1000.0d).toArray();
+        array[0] = -0.0d;
+        array[1] = 0.0d;
+        array[2] = Double.NaN;
+        array[3] = Double.NEGATIVE_INFINITY;
+        array[4] = Double.MIN_VALUE;
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+        ParallelRadixSort.sort(array, POOL);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void sortSmallArrays() {
+        int[] empty = new int[0];
+        ParallelRadixSort.sort(empty, POOL);
+        assertEquals(0, empty.length);
+        long[] array = {3L, -1L, 2L};
+        ParallelRadixSort.sort(array, POOL);
+        assertArrayEquals(new long[]{-1L, 2L, 3L}, array);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockedBloomFilterTest {
+
+    @Test
+    void noFalseNegatives() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        long[] keys = rng.longs(100_000).toArray();
+        BlockedBloomFilter filter = BlockedBloomFilter.of(keys, 10);
+        for (long key : keys) {
+            assertTrue(filter.mightContain(key));
+        }
+        int[] intKeys = rng.ints(100_000).toArray();
+        BlockedBloomFilter intFilter = BlockedBloomFilter.of(intKeys, 10);
+        for (int key : intKeys) {
+            assertTrue(intFilter.mightContain(key));
+        }
+    }
+
+    @Test
+    void falsePositiveRate() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        final int count = 100_000;
+        BlockedBloomFilter filter = new BlockedBloomFilter(count, 10);
+        for (long key = 0; key < count; key++) {
+            filter.add(key);
+        }
+        int positives = 0;
+        for (int i = 0; i < count; i++) {
+            if (filter.mightContain(count + rng.nextLong(Long.MAX_VALUE - count))) {
+                positives++;
+            }
+        }
+        double observed = (double) positives / count;
+        assertTrue(observed < 0.02, "False positive rate " + observed);
+        assertTrue(filter.falsePositiveRate() > 0.001 && filter.falsePositiveRate() < 0.02);
+        assertEquals(10.0d, filter.bitsPerKey(), 0.1d);
+        assertEquals(7, filter.hashes());
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BlockedBloomFilter(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new BlockedBloomFilter(10, 0));
+        assertFalse(new BlockedBloomFilter(0, 10).mightContain(1L));
+    }
+}
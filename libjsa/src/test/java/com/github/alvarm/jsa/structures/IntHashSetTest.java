@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntHashSetTest {
+
+    @Test
+    void addContainsRemove() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        IntHashSet set = new IntHashSet();
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 200_000; i++) {
+            int key = rng.nextInt(-2000, 2000);
+            switch (rng.nextInt(3)) {
+                case 0 -> assertEquals(expected.add(key), set.add(key));
+                case 1 -> assertEquals(expected.remove(key), set.remove(key));
+                default -> assertEquals(expected.contains(key), set.contains(key));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        for (int key = -2000; key < 2000; key++) {
+            assertEquals(expected.contains(key), set.contains(key));
+        }
+        int[] keys = set.toArray();
+        Arrays.sort(keys);
+        assertArrayEquals(expected.stream().sorted().mapToInt(Integer::intValue).toArray(), keys);
+    }
+
+    @Test
+    void zeroKey() {
+        IntHashSet set = new IntHashSet(4);
+        assertFalse(set.contains(0));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.contains(0));
+        assertEquals(1, set.size());
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void containsAll() {
+        IntHashSet set = new IntHashSet(1000, 0.75f);
+        for (int key = 0; key < 1000; key += 2) {
+            set.add(key);
+        }
+        int[] keys = new int[2000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i - 500;
+        }
+        boolean[] out = new boolean[keys.length];
+        set.containsAll(keys, out);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(keys[i] >= 0 && keys[i] < 1000 && keys[i] % 2 == 0, out[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> set.containsAll(keys, new boolean[1]));
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(2));
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(10, 0.0f));
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(10, 1.0f));
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(10, Float.NaN));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntIntHashMapTest {
+
+    @Test
+    void putGetRemove() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        IntIntHashMap map = new IntIntHashMap(0);
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            int key = rng.nextInt(-2000, 2000);
+            switch (rng.nextInt(3)) {
+                case 0 -> {
+                    int value = rng.nextInt();
+                    assertEquals(expected.put(key, value) == null, map.put(key, value));
+                }
+                case 1 -> assertEquals(expected.remove(key) != null, map.remove(key));
+                default -> assertEquals(expected.getOrDefault(key, -1), map.getOrDefault(key, -1));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (int key = -2000; key < 2000; key++) {
+            assertEquals(expected.containsKey(key), map.containsKey(key));
+            assertEquals(expected.getOrDefault(key, 7), map.getOrDefault(key, 7));
+        }
+    }
+
+    @Test
+    void bulkQueries() {
+        IntIntHashMap map = new IntIntHashMap(100, 0.9f);
+        for (int key = 0; key < 100; key++) {
+            map.put(key, key * key);
+        }
+        int[] keys = {0, 5, 99, 100, -1};
+        boolean[] found = new boolean[keys.length];
+        int[] values = new int[keys.length];
+        map.containsAll(keys, found);
+        map.getAll(keys, values, -1);
+        assertArrayEquals(new boolean[]{true, true, true, false, false}, found);
+        assertArrayEquals(new int[]{0, 25, 9801, -1, -1}, values);
+        assertThrows(IllegalArgumentException.class, () -> map.getAll(keys, new int[2], 0));
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(-1, map.getOrDefault(0, -1));
+    }
+}
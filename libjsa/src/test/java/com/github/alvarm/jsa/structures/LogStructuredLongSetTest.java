@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.TreeSet;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogStructuredLongSetTest {
+
+    @Test
+    void addContainsRemove() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        LogStructuredLongSet set = new LogStructuredLongSet();
+        TreeSet<Long> expected = new TreeSet<>();
+        for (int i = 0; i < 300_000; i++) {
+            long key = rng.nextLong(-50_000, 50_000);
+            switch (rng.nextInt(4)) {
+                case 0, 1 -> assertEquals(expected.add(key), set.add(key));
+                case 2 -> assertEquals(expected.remove(key), set.remove(key));
+                default -> assertEquals(expected.contains(key), set.contains(key));
+            }
+            assertEquals(expected.size(), set.size());
+            if (i % 100_000 == 50_000) {
+                set.compact();
+                assertEquals(1, set.runCount());
+            }
+        }
+        for (long key = -50_000; key < 50_000; key++) {
+            assertEquals(expected.contains(key), set.contains(key));
+        }
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), set.toArray());
+        assertEquals(1, set.runCount());
+        assertEquals(expected.size(), set.size());
+    }
+
+    @Test
+    void runCountIsLogarithmic() {
+        LogStructuredLongSet set = new LogStructuredLongSet();
+        final int count = 1 << 20;
+        for (int i = 0; i < count; i++) {
+            assertTrue(set.add((long) i * 7919 % count));
+        }
+        assertEquals(count, set.size());
+        int maxRuns = (int) Math.ceil(Math.log((double) count / LogStructuredLongSet.BUFFER_CAPACITY)
+                / Math.log(LogStructuredLongSet.GROWTH_FACTOR)) + 1;
+        assertTrue(set.runCount() <= maxRuns, "Too many runs: " + set.runCount());
+        for (int i = 0; i < count; i += 3) {
+            assertTrue(set.remove(i));
+            assertFalse(set.contains(i));
+            assertEquals(i + 1 < count, set.contains(i + 1));
+        }
+        set.compact();
+        assertEquals(1, set.runCount());
+        assertEquals(count - (count + 2) / 3, set.size());
+    }
+
+    @Test
+    void emptySet() {
+        LogStructuredLongSet set = new LogStructuredLongSet();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0));
+        assertFalse(set.remove(0));
+        assertEquals(0, set.toArray().length);
+        assertEquals(0, set.runCount());
+    }
+}
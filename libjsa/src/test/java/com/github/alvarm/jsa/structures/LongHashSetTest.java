@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+
+    @Test
+    void addContainsRemove() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 200_000; i++) {
+            long key = rng.nextLong(-2000, 2000);
+            switch (rng.nextInt(3)) {
+                case 0 -> assertEquals(expected.add(key), set.add(key));
+                case 1 -> assertEquals(expected.remove(key), set.remove(key));
+                default -> assertEquals(expected.contains(key), set.contains(key));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        for (long key = -2000; key < 2000; key++) {
+            assertEquals(expected.contains(key), set.contains(key));
+        }
+        long[] keys = set.toArray();
+        Arrays.sort(keys);
+        assertArrayEquals(expected.stream().sorted().mapToLong(Long::longValue).toArray(), keys);
+    }
+
+    @Test
+    void zeroKey() {
+        LongHashSet set = new LongHashSet(4);
+        assertFalse(set.contains(0));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.contains(0));
+        assertEquals(1, set.size());
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void containsAll() {
+        LongHashSet set = new LongHashSet(1000, 0.75f);
+        for (long key = 0; key < 1000; key += 2) {
+            set.add(key);
+        }
+        long[] keys = new long[2000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i - 500;
+        }
+        boolean[] out = new boolean[keys.length];
+        set.containsAll(keys, out);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(keys[i] >= 0 && keys[i] < 1000 && keys[i] % 2 == 0, out[i]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> set.containsAll(keys, new boolean[1]));
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(2));
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(-1));
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(10, 0.0f));
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(10, 1.0f));
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(10, Float.NaN));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright 2025 Àlvar Mercadé Ibáñez
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the “Software”), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED “AS IS”, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.github.alvarm.jsa.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XorFilterTest {
+
+    @Test
+    void noFalseNegatives() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        long[] keys = rng.longs(100_000).toArray();
+        XorFilter filter = XorFilter.of(keys);
+        for (long key : keys) {
+            assertTrue(filter.mightContain(key));
+        }
+        int[] intKeys = rng.ints(100_000, 0, 50_000).toArray();
+        XorFilter intFilter = XorFilter.of(intKeys);
+        for (int key : intKeys) {
+            assertTrue(intFilter.mightContain(key));
+        }
+    }
+
+    @Test
+    void falsePositiveRate() {
+        RandomGenerator rng = RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(42L);
+        final int count = 100_000;
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = i;
+        }
+        XorFilter filter = XorFilter.of(keys);
+        int positives = 0;
+        for (int i = 0; i < count; i++) {
+            if (filter.mightContain(count + rng.nextLong(Long.MAX_VALUE - count))) {
+                positives++;
+            }
+        }
+        double observed = (double) positives / count;
+        assertTrue(observed < 0.008, "False positive rate " + observed);
+        assertEquals(1.0d / 256.0d, filter.falsePositiveRate());
+        assertTrue(filter.bitsPerKey() < 10.0d);
+    }
+
+    @Test
+    void smallFilters() {
+        XorFilter empty = XorFilter.of(new long[0]);
+        assertEquals(1.0d / 256.0d, empty.falsePositiveRate());
+        XorFilter single = XorFilter.of(new int[]{7, 7, 7});
+        assertTrue(single.mightContain(7));
+    }
+}